@@ -3,15 +3,26 @@ package com.example.demo;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Bean;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Clock;
 
 @SpringBootApplication
 @EntityScan("com.example.demo.entity")
 @EnableJpaRepositories("com.example.demo.repository")
+@EnableScheduling
 public class MudaeBackstageBackApplication {
 
 	public static void main(String[] args) {
 		SpringApplication.run(MudaeBackstageBackApplication.class, args);
 	}
 
+	// 날짜 계산용 시계 (테스트에서 교체)
+	@Bean
+	public Clock clock() {
+		return Clock.systemDefaultZone();
+	}
+
 }
@@ -0,0 +1,99 @@
+package com.example.demo.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+@Slf4j
+@Configuration
+public class DataSourceConfig {
+
+    static final String PRIMARY_HIKARI = "spring.datasource.hikari";
+    static final String REPLICA = "app.datasource.replica";
+    static final String REPLICA_HIKARI = REPLICA + ".hikari";
+
+    // Hikari 풀 크기를 코어 수 기준으로 맞추고, PostgreSQL이면 서버측 prepared statement 캐시를 켬
+    // (풀 시작 전, 설정 바인딩이 끝난 뒤에 적용)
+    @Bean
+    public static BeanPostProcessor hikariPoolTuner(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    tune(dataSource, "replicaDataSource".equals(beanName) ? REPLICA_HIKARI : PRIMARY_HIKARI, environment);
+                }
+                return bean;
+            }
+        };
+    }
+
+    static void tune(HikariDataSource dataSource, String prefix, Environment environment) {
+        if (!environment.containsProperty(prefix + ".maximum-pool-size")) {
+            int connectionsPerCore = environment.getProperty("app.datasource.connections-per-core", Integer.class, 2);
+            dataSource.setMaximumPoolSize(poolSize(Runtime.getRuntime().availableProcessors(), connectionsPerCore));
+        }
+
+        String url = dataSource.getJdbcUrl();
+        if (url != null && url.startsWith("jdbc:postgresql:")) {
+            // 같은 쿼리를 prepare-threshold번 실행하면 서버측 prepared statement로 전환해서 연결별로 캐시
+            dataSource.addDataSourceProperty("prepareThreshold",
+                    environment.getProperty("app.datasource.prepare-threshold", "1"));
+            dataSource.addDataSourceProperty("preparedStatementCacheQueries",
+                    environment.getProperty("app.datasource.prepared-statement-cache-queries", "512"));
+        }
+        log.info("DataSource {}: maximumPoolSize={}", dataSource.getPoolName(), dataSource.getMaximumPoolSize());
+    }
+
+    // 연결은 코어당 몇 개면 충분함 (디스크 대기 몫으로 하나 더)
+    static int poolSize(int cores, int connectionsPerCore) {
+        return Math.max(2, cores * connectionsPerCore + 1);
+    }
+
+    // 복제본이 설정되면 읽기 전용 트랜잭션은 복제본 풀로, 나머지는 주 DB 풀로 보냄
+    // 두 풀은 직접 주입되지 않도록 기본 후보에서 빼고, 라우팅 DataSource만 노출
+    @Configuration
+    @ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+    static class ReplicaRoutingConfig {
+
+        @Bean(defaultCandidate = false)
+        @ConfigurationProperties(PRIMARY_HIKARI)
+        public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+            return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        }
+
+        // 접속 정보는 app.datasource.replica.url/username/password, 풀 설정은 app.datasource.replica.hikari.*
+        @Bean(defaultCandidate = false)
+        @ConfigurationProperties(REPLICA_HIKARI)
+        public HikariDataSource replicaDataSource(Environment environment) throws Exception {
+            DataSourceProperties properties = Binder.get(environment).bind(REPLICA, DataSourceProperties.class)
+                    .orElseThrow(() -> new IllegalStateException(REPLICA + ".url is not configured"));
+            properties.afterPropertiesSet();
+            HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+            dataSource.setReadOnly(true);
+            return dataSource;
+        }
+
+        // 트랜잭션이 시작될 때는 아직 읽기 전용 여부가 정해지지 않으므로, 첫 SQL 실행 시점에 실제 연결을 고름
+        @Bean
+        @Primary
+        public DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primary,
+                                     @Qualifier("replicaDataSource") HikariDataSource replica,
+                                     ReadYourWritesTracker readYourWritesTracker) {
+            ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replica, readYourWritesTracker);
+            routing.afterPropertiesSet();
+            return new LazyConnectionDataSourceProxy(routing);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.demo.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// 읽기 전용 트랜잭션은 복제본, 그 외(쓰기 트랜잭션, 트랜잭션 밖의 JDBC 호출)는 주 DB로 보냄
+// 방금 쓰기를 한 사용자는 복제 지연 동안 자기 글이 안 보이지 않도록 읽기도 주 DB에서 처리
+// (LazyConnectionDataSourceProxy로 감싸서 써야 트랜잭션의 읽기 전용 여부가 정해진 뒤에 연결을 고름)
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY, REPLICA
+    }
+
+    // onPrimary() 안에서 실행 중인지 (복제본을 켜지 않았으면 쓰이지 않음)
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReadYourWritesTracker readYourWritesTracker) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    // 복제 지연을 허용할 수 없는 읽기(가입 직후 로그인처럼 익명 요청의 조회)는 이 안에서 실행해 주 DB에서 읽음
+    // 연결은 첫 SQL 실행 시점에 고르므로, 이미 복제본 연결을 잡은 트랜잭션 안에서 부르면 효과가 없음
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = FORCE_PRIMARY.get();
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                FORCE_PRIMARY.remove();
+            } else {
+                FORCE_PRIMARY.set(previous);
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String username = currentUsername();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWrite(username);
+            return Target.PRIMARY;
+        }
+        if (FORCE_PRIMARY.get() != null) {
+            return Target.PRIMARY;
+        }
+        return username != null && readYourWritesTracker.recentlyWrote(username) ? Target.PRIMARY : Target.REPLICA;
+    }
+
+    // 커밋 시점부터 다시 재서 트랜잭션이 길었어도 복제 지연 구간을 온전히 덮음
+    private void recordWrite(String username) {
+        if (username == null) {
+            return;
+        }
+        readYourWritesTracker.recordWrite(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    readYourWritesTracker.recordWrite(username);
+                }
+            });
+        }
+    }
+
+    private String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.demo.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 사용자별 마지막 쓰기 시각 (복제 지연 허용 구간 안이면 읽기도 주 DB에서 처리)
+@Component
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReadYourWritesTracker {
+
+    private final Clock clock;
+    private final long windowMillis;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Clock clock,
+                                 @Value("${app.datasource.replica.read-your-writes-ms:5000}") long windowMillis) {
+        this.clock = clock;
+        this.windowMillis = windowMillis;
+    }
+
+    public void recordWrite(String username) {
+        lastWrites.put(username, clock.millis());
+    }
+
+    public boolean recentlyWrote(String username) {
+        Long writtenAt = lastWrites.get(username);
+        return writtenAt != null && clock.millis() - writtenAt < windowMillis;
+    }
+
+    public int size() {
+        return lastWrites.size();
+    }
+
+    // 구간이 지난 사용자는 정리
+    @Scheduled(fixedDelayString = "${app.datasource.replica.read-your-writes-ms:5000}")
+    public void evictExpired() {
+        long threshold = clock.millis() - windowMillis;
+        lastWrites.values().removeIf(writtenAt -> writtenAt <= threshold);
+    }
+}
@@ -1,13 +1,17 @@
 package com.example.demo.controller;
 
 import com.example.demo.dto.UserDto;
+import com.example.demo.exception.PasswordHashingRejectedException;
 import com.example.demo.security.JwtTokenProvider;
+import com.example.demo.security.LoginAttemptGuard;
 import com.example.demo.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -27,15 +31,27 @@ public class AuthController {
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider tokenProvider;
     private final UserService userService;
+    private final LoginAttemptGuard loginAttemptGuard;
     
     @PostMapping("/login")
-    public ResponseEntity<Map<String, Object>> login(@Valid @RequestBody UserDto.LoginRequest request) {
+    public ResponseEntity<Map<String, Object>> login(@Valid @RequestBody UserDto.LoginRequest request,
+                                                     HttpServletRequest httpRequest) {
+        String clientIp = httpRequest.getRemoteAddr();
+        
+        // 실패가 누적된 사용자명/IP는 비밀번호 해싱 전에 차단
+        if (loginAttemptGuard.isBlocked(request.getUsername(), clientIp)) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(response);
+        }
+        
         try {
             Authentication authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword())
             );
             
             SecurityContextHolder.getContext().setAuthentication(authentication);
+            loginAttemptGuard.recordSuccess(request.getUsername());
             
             String jwt = tokenProvider.generateToken(authentication);
             
@@ -47,6 +63,15 @@ public class AuthController {
             return ResponseEntity.ok(response);
             
         } catch (Exception e) {
+            if (isHashingRejected(e)) {
+                Map<String, Object> response = new HashMap<>();
+                response.put("message", "로그인 요청이 많아 잠시 후 다시 시도해주세요.");
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+            }
+            if (e instanceof BadCredentialsException) {
+                loginAttemptGuard.recordFailure(request.getUsername(), clientIp);
+            }
+            
             Map<String, Object> response = new HashMap<>();
             response.put("message", "로그인에 실패했습니다. 사용자명과 비밀번호를 확인해주세요.");
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
@@ -58,4 +83,14 @@ public class AuthController {
         UserDto.UserResponse response = userService.signUp(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
+    
+    // 사용자 조회 단계에서 거절되면 InternalAuthenticationServiceException으로 감싸져서 옴
+    private boolean isHashingRejected(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof PasswordHashingRejectedException) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
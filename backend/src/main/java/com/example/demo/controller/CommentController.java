@@ -1,6 +1,7 @@
 package com.example.demo.controller;
 
 import com.example.demo.dto.CommentDto;
+import com.example.demo.dto.CursorDto;
 import com.example.demo.service.CommentService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -33,6 +34,26 @@ public class CommentController {
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping("/post/{postId}/threads")
+    public ResponseEntity<CursorDto.SliceResponse<CommentDto.CommentResponse>> getCommentThreads(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "3") int replies) {
+        CursorDto.SliceResponse<CommentDto.CommentResponse> response =
+                commentService.getCommentThreads(postId, cursor, size, replies);
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/{commentId}/replies")
+    public ResponseEntity<CursorDto.SliceResponse<CommentDto.CommentResponse>> getReplies(
+            @PathVariable Long commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorDto.SliceResponse<CommentDto.CommentResponse> response = commentService.getReplies(commentId, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+    
     @GetMapping("/user/{userId}")
     public ResponseEntity<Page<CommentDto.CommentSummary>> getCommentsByUser(
             @PathVariable Long userId,
@@ -41,6 +62,16 @@ public class CommentController {
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping("/user/{userId}/cursor")
+    public ResponseEntity<CursorDto.SliceResponse<CommentDto.CommentSummary>> getCommentsByUserWithCursor(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorDto.SliceResponse<CommentDto.CommentSummary> response =
+                commentService.getCommentsByUserWithCursor(userId, after, size);
+        return ResponseEntity.ok(response);
+    }
+    
     @GetMapping("/post/{postId}/top")
     public ResponseEntity<List<CommentDto.CommentResponse>> getTopCommentsByPost(@PathVariable Long postId) {
         List<CommentDto.CommentResponse> response = commentService.getTopCommentsByPost(postId);
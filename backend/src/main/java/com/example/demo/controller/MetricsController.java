@@ -0,0 +1,35 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.CacheDto;
+import com.example.demo.service.PerformanceCache;
+import com.example.demo.service.PostWindowCache;
+import com.example.demo.service.ReadThroughCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/metrics")
+@RequiredArgsConstructor
+@PreAuthorize("hasAuthority('ADMIN')")
+public class MetricsController {
+    
+    private final PerformanceCache performanceCache;
+    private final ReadThroughCache<String, UserDetails> principalCache;
+    private final PostWindowCache postWindowCache;
+    
+    @GetMapping("/caches")
+    public ResponseEntity<List<CacheDto.CacheStats>> getCacheStats() {
+        List<CacheDto.CacheStats> response = new ArrayList<>(performanceCache.stats());
+        response.addAll(postWindowCache.stats());
+        response.add(principalCache.stats());
+        return ResponseEntity.ok(response);
+    }
+}
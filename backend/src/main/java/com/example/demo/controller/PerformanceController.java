@@ -1,5 +1,6 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.CursorDto;
 import com.example.demo.dto.PerformanceDto;
 import com.example.demo.service.PerformanceService;
 import jakarta.validation.Valid;
@@ -38,6 +39,15 @@ public class PerformanceController {
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorDto.SliceResponse<PerformanceDto.PerformanceSummary>> getPerformancesWithCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorDto.SliceResponse<PerformanceDto.PerformanceSummary> response =
+                performanceService.getPerformancesWithCursor(after, size);
+        return ResponseEntity.ok(response);
+    }
+    
     @GetMapping("/status/{status}")
     public ResponseEntity<Page<PerformanceDto.PerformanceSummary>> getPerformancesByStatus(
             @PathVariable String status,
@@ -59,21 +69,32 @@ public class PerformanceController {
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping("/suggest")
+    public ResponseEntity<List<PerformanceDto.Suggestion>> suggestPerformances(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<PerformanceDto.Suggestion> response = performanceService.suggestPerformances(q, limit);
+        return ResponseEntity.ok(response);
+    }
+    
     @GetMapping("/upcoming")
-    public ResponseEntity<List<PerformanceDto.PerformanceSummary>> getUpcomingPerformances() {
-        List<PerformanceDto.PerformanceSummary> response = performanceService.getUpcomingPerformances();
+    public ResponseEntity<Page<PerformanceDto.PerformanceSummary>> getUpcomingPerformances(Pageable pageable) {
+        Page<PerformanceDto.PerformanceSummary> response = performanceService.getUpcomingPerformances(pageable);
         return ResponseEntity.ok(response);
     }
     
     @GetMapping("/ongoing")
-    public ResponseEntity<List<PerformanceDto.PerformanceSummary>> getOngoingPerformances() {
-        List<PerformanceDto.PerformanceSummary> response = performanceService.getOngoingPerformances();
+    public ResponseEntity<Page<PerformanceDto.PerformanceSummary>> getOngoingPerformances(Pageable pageable) {
+        Page<PerformanceDto.PerformanceSummary> response = performanceService.getOngoingPerformances(pageable);
         return ResponseEntity.ok(response);
     }
     
     @GetMapping("/completed")
-    public ResponseEntity<List<PerformanceDto.PerformanceSummary>> getCompletedPerformances() {
-        List<PerformanceDto.PerformanceSummary> response = performanceService.getCompletedPerformances();
+    public ResponseEntity<CursorDto.SliceResponse<PerformanceDto.PerformanceSummary>> getCompletedPerformances(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorDto.SliceResponse<PerformanceDto.PerformanceSummary> response =
+                performanceService.getCompletedPerformances(after, size);
         return ResponseEntity.ok(response);
     }
     
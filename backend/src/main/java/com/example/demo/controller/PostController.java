@@ -1,5 +1,6 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.CursorDto;
 import com.example.demo.dto.PostDto;
 import com.example.demo.service.PostService;
 import jakarta.validation.Valid;
@@ -41,6 +42,17 @@ public class PostController {
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping("/performance/{performanceId}/cursor")
+    public ResponseEntity<CursorDto.SliceResponse<PostDto.PostSummary>> getPostsByPerformanceWithCursor(
+            @PathVariable Long performanceId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "latest") String sort) {
+        CursorDto.SliceResponse<PostDto.PostSummary> response =
+                postService.getPostsByPerformanceWithCursor(performanceId, after, size, sort);
+        return ResponseEntity.ok(response);
+    }
+    
     @GetMapping("/performance/{performanceId}/type/{postType}")
     public ResponseEntity<Page<PostDto.PostSummary>> getPostsByPerformanceAndType(
             @PathVariable Long performanceId,
@@ -76,6 +88,14 @@ public class PostController {
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping("/trending")
+    public ResponseEntity<List<PostDto.PostSummary>> getTrendingPosts(
+            @RequestParam(required = false) Long performanceId,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<PostDto.PostSummary> response = postService.getTrendingPosts(performanceId, limit);
+        return ResponseEntity.ok(response);
+    }
+    
     @GetMapping("/user/{userId}")
     public ResponseEntity<Page<PostDto.PostSummary>> getPostsByUser(
             @PathVariable Long userId,
@@ -92,6 +112,15 @@ public class PostController {
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping("/search/cursor")
+    public ResponseEntity<CursorDto.SliceResponse<PostDto.PostSummary>> searchPostsWithCursor(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorDto.SliceResponse<PostDto.PostSummary> response = postService.searchPostsWithCursor(keyword, after, size);
+        return ResponseEntity.ok(response);
+    }
+    
     @PutMapping("/{postId}")
     public ResponseEntity<PostDto.PostResponse> updatePost(
             @PathVariable Long postId,
@@ -6,6 +6,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -40,4 +41,12 @@ public class UserController {
         UserDto.UserResponse response = userService.updateProfile(userId, request);
         return ResponseEntity.ok(response);
     }
+    
+    // 본인 또는 관리자만 (principal은 User 또는 JwtPrincipal, 둘 다 id를 가짐)
+    @PostMapping("/{userId}/tokens/revoke")
+    @PreAuthorize("hasAuthority('ADMIN') or #userId == authentication.principal.id")
+    public ResponseEntity<Void> revokeTokens(@PathVariable Long userId) {
+        userService.revokeTokens(userId);
+        return ResponseEntity.noContent().build();
+    }
 }
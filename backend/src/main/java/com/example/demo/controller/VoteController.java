@@ -38,6 +38,13 @@ public class VoteController {
         return ResponseEntity.ok(response);
     }
     
+    @PostMapping("/summary:batch")
+    public ResponseEntity<VoteDto.BatchSummaryResponse> getVoteSummaries(
+            @Valid @RequestBody VoteDto.BatchSummaryRequest request) {
+        VoteDto.BatchSummaryResponse response = voteService.getVoteSummaries(request);
+        return ResponseEntity.ok(response);
+    }
+    
     @GetMapping("/check")
     public ResponseEntity<Boolean> hasUserVoted(
             @RequestParam Long userId,
@@ -0,0 +1,24 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+public class CacheDto {
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CacheStats {
+        private String name;
+        private int size;
+        private int maxSize;
+        private long hitCount;
+        private long missCount;
+        private long loadCount;
+        private long evictionCount;
+        private double hitRatio;
+    }
+}
@@ -55,6 +55,7 @@ public class CommentDto {
         private Boolean isSpoiler;
         private Integer likeCount;
         private Integer dislikeCount;
+        private Integer replyCount;
         private List<CommentResponse> replies;
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
@@ -0,0 +1,106 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+public class CursorDto {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    public static int clampSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    // pageSize + 1개를 조회한 결과에서 다음 페이지 확인용으로 더 읽은 행을 뺀 목록
+    public static <E> List<E> page(List<E> rows, int pageSize) {
+        return rows.size() > pageSize ? rows.subList(0, pageSize) : rows;
+    }
+
+    // pageSize + 1개를 조회한 결과로 다음 페이지 존재 여부와 커서를 계산
+    public static <E, T> SliceResponse<T> slice(List<E> rows, int pageSize,
+                                                 Function<E, String> cursorOf, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > pageSize;
+        List<E> page = page(rows, pageSize);
+
+        return SliceResponse.<T>builder()
+                .content(page.stream().map(mapper).toList())
+                .nextCursor(hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SliceResponse<T> {
+        private List<T> content;
+        private String nextCursor;
+        private boolean hasNext;
+    }
+
+    // 정렬 키와 id로 이루어진 keyset 커서 (클라이언트에는 Base64 문자열로 전달)
+    @Data
+    @AllArgsConstructor
+    public static class Cursor {
+        private String key;
+        private Long id;
+
+        public static String encode(Object key, Long id) {
+            String raw = key + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('|');
+                return new Cursor(raw.substring(0, separator), Long.parseLong(raw.substring(separator + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new RuntimeException("유효하지 않은 커서입니다.");
+            }
+        }
+
+        public LocalDateTime getKeyAsDateTime() {
+            try {
+                return LocalDateTime.parse(key);
+            } catch (DateTimeParseException e) {
+                throw new RuntimeException("유효하지 않은 커서입니다.");
+            }
+        }
+
+        public LocalDate getKeyAsDate() {
+            try {
+                return LocalDate.parse(key);
+            } catch (DateTimeParseException e) {
+                throw new RuntimeException("유효하지 않은 커서입니다.");
+            }
+        }
+
+        public Integer getKeyAsInteger() {
+            try {
+                return Integer.valueOf(key);
+            } catch (NumberFormatException e) {
+                throw new RuntimeException("유효하지 않은 커서입니다.");
+            }
+        }
+
+        public Double getKeyAsDouble() {
+            try {
+                return Double.valueOf(key);
+            } catch (NumberFormatException e) {
+                throw new RuntimeException("유효하지 않은 커서입니다.");
+            }
+        }
+    }
+}
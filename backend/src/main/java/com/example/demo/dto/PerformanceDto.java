@@ -131,4 +131,17 @@ public class PerformanceDto {
         private LocalDate endDate;
         private Performance.Status status;
     }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Suggestion {
+        private Long id;
+        private String title;
+        private String posterImage;
+        private String genre;
+        private String venue;
+        private Performance.Status status;
+    }
 }
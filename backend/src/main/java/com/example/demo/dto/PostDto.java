@@ -71,13 +71,13 @@ public class PostDto {
     }
     
     @Data
-    @Builder
+    @Builder(toBuilder = true)
     @NoArgsConstructor
     @AllArgsConstructor
     public static class PostSummary {
         private Long id;
         private String title;
-        private String content;
+        private String excerpt;
         private UserDto.UserResponse user;
         private Post.PostType postType;
         private Boolean isSpoiler;
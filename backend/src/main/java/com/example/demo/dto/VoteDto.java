@@ -8,6 +8,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class VoteDto {
     
@@ -58,4 +59,27 @@ public class VoteDto {
         private Long disagreeCount;
         private Vote.VoteType userVote;
     }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BatchSummaryRequest {
+        @Size(max = 300, message = "게시글 ID는 한 번에 300개까지 조회할 수 있습니다.")
+        private List<Long> postIds;
+        
+        @Size(max = 300, message = "댓글 ID는 한 번에 300개까지 조회할 수 있습니다.")
+        private List<Long> commentIds;
+        
+        private Long userId;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BatchSummaryResponse {
+        private List<VoteSummary> posts;
+        private List<VoteSummary> comments;
+    }
 }
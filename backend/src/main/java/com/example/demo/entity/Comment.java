@@ -11,7 +11,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+    @Index(name = "idx_comments_post_parent_created", columnList = "post_id, parent_id, created_at, id"),
+    @Index(name = "idx_comments_user_created", columnList = "user_id, created_at, id"),
+    @Index(name = "idx_comments_parent_created", columnList = "parent_id, created_at, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -19,7 +23,8 @@ import java.util.List;
 public class Comment {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comments_seq")
+    @SequenceGenerator(name = "comments_seq", sequenceName = "comments_seq", allocationSize = 50)
     private Long id;
     
     @Column(columnDefinition = "TEXT", nullable = false)
@@ -49,13 +54,22 @@ public class Comment {
     @Column(name = "is_spoiler")
     private Boolean isSpoiler = false;
 
+    // 투표 집계는 원자적 UPDATE 쿼리로만 바꿈 (엔티티 수정 시 덮어쓰지 않도록 updatable = false)
     @Builder.Default
-    @Column(name = "like_count")
+    @Column(name = "like_count", updatable = false)
     private Integer likeCount = 0;
 
     @Builder.Default
-    @Column(name = "dislike_count")
+    @Column(name = "dislike_count", updatable = false)
     private Integer dislikeCount = 0;
+
+    @Builder.Default
+    @Column(name = "agree_count", updatable = false)
+    private Integer agreeCount = 0;
+
+    @Builder.Default
+    @Column(name = "disagree_count", updatable = false)
+    private Integer disagreeCount = 0;
     
     @Column(name = "created_at")
     private LocalDateTime createdAt;
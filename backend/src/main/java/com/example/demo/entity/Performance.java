@@ -5,12 +5,18 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "performances")
+@Table(name = "performances", indexes = {
+    @Index(name = "idx_performances_created", columnList = "created_at DESC, id DESC"),
+    @Index(name = "idx_performances_status_start_date", columnList = "status, start_date, id"),
+    @Index(name = "idx_performances_status_end_date", columnList = "status, end_date, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -18,7 +24,8 @@ import java.time.LocalDateTime;
 public class Performance {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "performances_seq")
+    @SequenceGenerator(name = "performances_seq", sequenceName = "performances_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
@@ -46,6 +53,7 @@ public class Performance {
     private Integer runningTime; // 분 단위
     
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     @Column(name = "status")
     private Status status;
     
@@ -66,6 +74,20 @@ public class Performance {
         updatedAt = LocalDateTime.now();
     }
     
+    // 날짜 기준으로 상태 맞추기 (취소된 공연이나 기간이 비어 있는 공연은 그대로)
+    public void refreshStatus(LocalDate today) {
+        if (status == Status.CANCELLED || startDate == null || endDate == null) {
+            return;
+        }
+        if (startDate.isAfter(today)) {
+            status = Status.UPCOMING;
+        } else if (endDate.isBefore(today)) {
+            status = Status.COMPLETED;
+        } else {
+            status = Status.ONGOING;
+        }
+    }
+    
     public enum Status {
         UPCOMING, ONGOING, COMPLETED, CANCELLED
     }
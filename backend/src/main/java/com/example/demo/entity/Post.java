@@ -5,13 +5,22 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+    @Index(name = "idx_posts_performance_created", columnList = "performance_id, created_at, id"),
+    @Index(name = "idx_posts_performance_like", columnList = "performance_id, like_count, id"),
+    @Index(name = "idx_posts_performance_type_created", columnList = "performance_id, post_type, created_at, id"),
+    @Index(name = "idx_posts_performance_spoiler_created", columnList = "performance_id, is_spoiler, created_at, id"),
+    @Index(name = "idx_posts_user_created", columnList = "user_id, created_at, id"),
+    @Index(name = "idx_posts_created", columnList = "created_at, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -19,7 +28,8 @@ import java.util.List;
 public class Post {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "posts_seq")
+    @SequenceGenerator(name = "posts_seq", sequenceName = "posts_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
@@ -28,6 +38,10 @@ public class Post {
     @Column(columnDefinition = "TEXT", nullable = false)
     private String content;
     
+    // 목록용 요약 (작성/수정 시 본문에서 계산, 목록 쿼리는 content 대신 이 컬럼만 읽음)
+    @Column(name = "excerpt", length = 300)
+    private String excerpt;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -36,7 +50,9 @@ public class Post {
     @JoinColumn(name = "performance_id", nullable = false)
     private Performance performance;
     
+    // 마이그레이션의 VARCHAR 컬럼과 맞춤 (H2 방언의 네이티브 enum 타입으로 만들지 않아야 스키마 검증을 통과)
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     @Column(name = "post_type")
     private PostType postType;
 
@@ -44,18 +60,31 @@ public class Post {
     @Column(name = "is_spoiler")
     private Boolean isSpoiler = false;
 
+    // 카운터 컬럼은 원자적 UPDATE 쿼리로만 바꿈 (엔티티 수정 시 dirty flush로 덮어쓰지 않도록 updatable = false)
     @Builder.Default
-    @Column(name = "view_count")
+    @Column(name = "view_count", updatable = false)
     private Integer viewCount = 0;
 
     @Builder.Default
-    @Column(name = "like_count")
+    @Column(name = "like_count", updatable = false)
     private Integer likeCount = 0;
 
     @Builder.Default
-    @Column(name = "dislike_count")
+    @Column(name = "dislike_count", updatable = false)
     private Integer dislikeCount = 0;
 
+    @Builder.Default
+    @Column(name = "agree_count", updatable = false)
+    private Integer agreeCount = 0;
+
+    @Builder.Default
+    @Column(name = "disagree_count", updatable = false)
+    private Integer disagreeCount = 0;
+
+    @Builder.Default
+    @Column(name = "comment_count", updatable = false)
+    private Integer commentCount = 0;
+
     @Builder.Default
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Comment> comments = new ArrayList<>();
@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -14,7 +16,9 @@ import java.util.Collection;
 import java.util.List;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+    @Index(name = "idx_users_token_version", columnList = "token_version")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -22,7 +26,8 @@ import java.util.List;
 public class User implements UserDetails {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
     
     @Column(unique = true, nullable = false)
@@ -41,8 +46,15 @@ public class User implements UserDetails {
     private String profileImage;
     
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     private Role role;
     
+    // 증가시키면 이전에 발급된 토큰이 모두 무효화됨
+    // incrementTokenVersion으로만 바꿈 (프로필 수정 등에서 읽어 둔 이전 버전으로 덮어쓰지 않도록 updatable = false)
+    @Builder.Default
+    @Column(name = "token_version", nullable = false, updatable = false)
+    private Integer tokenVersion = 0;
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
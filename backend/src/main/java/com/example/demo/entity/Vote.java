@@ -5,11 +5,19 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "votes")
+@Table(name = "votes", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_votes_user_post", columnNames = {"user_id", "post_id"}),
+    @UniqueConstraint(name = "uk_votes_user_comment", columnNames = {"user_id", "comment_id"})
+}, indexes = {
+    @Index(name = "idx_votes_post_type", columnList = "post_id, vote_type"),
+    @Index(name = "idx_votes_comment_type", columnList = "comment_id, vote_type")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -17,7 +25,8 @@ import java.time.LocalDateTime;
 public class Vote {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "votes_seq")
+    @SequenceGenerator(name = "votes_seq", sequenceName = "votes_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -33,6 +42,7 @@ public class Vote {
     private Comment comment;
     
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     @Column(nullable = false)
     private VoteType voteType;
     
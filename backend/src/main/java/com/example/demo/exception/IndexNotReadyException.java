@@ -0,0 +1,9 @@
+package com.example.demo.exception;
+
+// 시작 직후 메모리 색인/순위가 아직 만들어지지 않은 경우 (잠시 후 재시도하면 되는 서버 쪽 상태)
+public class IndexNotReadyException extends RuntimeException {
+    
+    public IndexNotReadyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.demo.exception;
+
+// 비밀번호 해싱 작업 큐가 가득 차서 요청을 거절한 경우
+public class PasswordHashingRejectedException extends RuntimeException {
+    
+    public PasswordHashingRejectedException() {
+        super("요청이 많아 잠시 후 다시 시도해주세요.");
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.demo.repository;
+
+import java.time.LocalDateTime;
+
+// 삭제되는 대댓글을 따라 내려가면서 인기글 점수에서 뺄 작성 시각을 모으기 위한 조회
+public interface CommentActivityView {
+
+    Long getId();
+
+    LocalDateTime getCreatedAt();
+}
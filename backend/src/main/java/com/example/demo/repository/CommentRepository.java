@@ -4,30 +4,141 @@ import com.example.demo.entity.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     
     List<Comment> findByPostIdOrderByCreatedAtAsc(Long postId);
     
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.post.id = :postId ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findAllWithUserByPostId(@Param("postId") Long postId);
+    
     List<Comment> findByPostIdAndParentIsNullOrderByCreatedAtAsc(Long postId);
     
     List<Comment> findByParentIdOrderByCreatedAtAsc(Long parentId);
     
     Page<Comment> findByUserId(Long userId, Pageable pageable);
     
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.user.id = :userId ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findLatestByUserId(@Param("userId") Long userId, Pageable pageable);
+    
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.user.id = :userId "
+            + "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) "
+            + "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findLatestByUserIdAfter(@Param("userId") Long userId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+    
     @Query("SELECT c FROM Comment c WHERE c.post.id = :postId AND c.depth = 0 ORDER BY c.createdAt ASC")
     List<Comment> findTopLevelCommentsByPost(@Param("postId") Long postId);
     
     @Query("SELECT c FROM Comment c WHERE c.post.id = :postId ORDER BY c.likeCount DESC")
     List<Comment> findTopCommentsByPost(@Param("postId") Long postId);
     
+    // 커서 기반 댓글 스레드 조회 (post_id, parent_id, created_at, id 인덱스 사용)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.post.id = :postId AND c.parent IS NULL "
+            + "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findTopLevelComments(@Param("postId") Long postId, Pageable pageable);
+    
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.post.id = :postId AND c.parent IS NULL "
+            + "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) "
+            + "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findTopLevelCommentsAfter(@Param("postId") Long postId,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
+    
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.post.id = :postId AND c.parent.id = :parentId "
+            + "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findReplies(@Param("postId") Long postId, @Param("parentId") Long parentId, Pageable pageable);
+    
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.post.id = :postId AND c.parent.id = :parentId "
+            + "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) "
+            + "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findRepliesAfter(@Param("postId") Long postId,
+                                   @Param("parentId") Long parentId,
+                                   @Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") Long id,
+                                   Pageable pageable);
+    
+    // 부모 댓글마다 앞에서부터 limit개의 대댓글 id
+    // (parent_id별 순번을 (post_id, parent_id, created_at, id) 인덱스 순서대로 한 번 훑으며 매김)
+    @Query(value = "SELECT r.id FROM ("
+                + "SELECT c.id, ROW_NUMBER() OVER (PARTITION BY c.parent_id ORDER BY c.created_at, c.id) AS rn "
+                + "FROM comments c WHERE c.post_id = :postId AND c.parent_id IN (:parentIds)"
+                + ") r WHERE r.rn <= :limit",
+           nativeQuery = true)
+    List<Long> findFirstReplyIdsByParentIds(@Param("postId") Long postId,
+                                            @Param("parentIds") Collection<Long> parentIds,
+                                            @Param("limit") int limit);
+    
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.id IN :ids ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
+    
+    @Query("SELECT c.parent.id, COUNT(c) FROM Comment c WHERE c.post.id = :postId AND c.parent.id IN :parentIds "
+            + "GROUP BY c.parent.id")
+    List<Object[]> countRepliesByParentIds(@Param("postId") Long postId, @Param("parentIds") Collection<Long> parentIds);
+    
+    @Query("SELECT c.parent.id, COUNT(c) FROM Comment c WHERE c.parent.id IN :parentIds GROUP BY c.parent.id")
+    List<Object[]> countRepliesByParentIdIn(@Param("parentIds") Collection<Long> parentIds);
+    
+    @Query("SELECT c.id AS id, c.createdAt AS createdAt FROM Comment c WHERE c.parent.id IN :parentIds")
+    List<CommentActivityView> findActivityByParentIdIn(@Param("parentIds") Collection<Long> parentIds);
+    
     long countByPostId(Long postId);
     
     long countByUserId(Long userId);
+    
+    @Query("SELECT MAX(c.id) FROM Comment c")
+    Long findMaxId();
+    
+    // 투표 집계 컬럼 (투표/취소 시 증감)
+    @Modifying
+    @Query("UPDATE Comment c SET c.likeCount = c.likeCount + :like, c.dislikeCount = c.dislikeCount + :dislike, "
+            + "c.agreeCount = c.agreeCount + :agree, c.disagreeCount = c.disagreeCount + :disagree "
+            + "WHERE c.id = :commentId")
+    int adjustVoteCounts(@Param("commentId") Long commentId,
+                         @Param("like") int like,
+                         @Param("dislike") int dislike,
+                         @Param("agree") int agree,
+                         @Param("disagree") int disagree);
+    
+    @Query("SELECT c.id AS id, c.likeCount AS likeCount, c.dislikeCount AS dislikeCount, "
+            + "c.agreeCount AS agreeCount, c.disagreeCount AS disagreeCount FROM Comment c WHERE c.id = :commentId")
+    Optional<VoteTallyView> findVoteTally(@Param("commentId") Long commentId);
+    
+    @Query("SELECT c.id AS id, c.likeCount AS likeCount, c.dislikeCount AS dislikeCount, "
+            + "c.agreeCount AS agreeCount, c.disagreeCount AS disagreeCount FROM Comment c WHERE c.id IN :commentIds")
+    List<VoteTallyView> findVoteTallies(@Param("commentIds") Collection<Long> commentIds);
+    
+    // 인기글 순위 재구성용 (게시글별 댓글 작성 시각)
+    @Query("SELECT c.post.id AS postId, c.createdAt AS createdAt FROM Comment c WHERE c.post.id IN :postIds")
+    List<PostCommentActivityView> findPostCommentActivity(@Param("postIds") Collection<Long> postIds);
+    
+    // votes 테이블 기준으로 id 구간의 투표 집계를 다시 계산 (어긋난 행만 갱신)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE comments t SET "
+                + "like_count = (SELECT COUNT(*) FROM votes v WHERE v.comment_id = t.id AND v.vote_type = 'LIKE'), "
+                + "dislike_count = (SELECT COUNT(*) FROM votes v WHERE v.comment_id = t.id AND v.vote_type = 'DISLIKE'), "
+                + "agree_count = (SELECT COUNT(*) FROM votes v WHERE v.comment_id = t.id AND v.vote_type = 'AGREE'), "
+                + "disagree_count = (SELECT COUNT(*) FROM votes v WHERE v.comment_id = t.id AND v.vote_type = 'DISAGREE') "
+                + "WHERE t.id BETWEEN :fromId AND :toId "
+                + "AND (t.like_count <> (SELECT COUNT(*) FROM votes v WHERE v.comment_id = t.id AND v.vote_type = 'LIKE') "
+                + "OR t.dislike_count <> (SELECT COUNT(*) FROM votes v WHERE v.comment_id = t.id AND v.vote_type = 'DISLIKE') "
+                + "OR t.agree_count <> (SELECT COUNT(*) FROM votes v WHERE v.comment_id = t.id AND v.vote_type = 'AGREE') "
+                + "OR t.disagree_count <> (SELECT COUNT(*) FROM votes v WHERE v.comment_id = t.id AND v.vote_type = 'DISAGREE'))",
+           nativeQuery = true)
+    int rebuildVoteCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
@@ -5,11 +5,14 @@ import com.example.demo.entity.Performance.Status;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -21,12 +24,55 @@ public interface PerformanceRepository extends JpaRepository<Performance, Long>
     
     Page<Performance> findByTitleContainingIgnoreCase(String title, Pageable pageable);
     
-    @Query("SELECT p FROM Performance p WHERE p.startDate >= :today ORDER BY p.startDate ASC")
-    List<Performance> findUpcomingPerformances(@Param("today") LocalDate today);
+    @Query("SELECT p FROM Performance p ORDER BY p.createdAt DESC, p.id DESC")
+    List<Performance> findLatest(Pageable pageable);
     
-    @Query("SELECT p FROM Performance p WHERE p.endDate < :today ORDER BY p.endDate DESC")
-    List<Performance> findCompletedPerformances(@Param("today") LocalDate today);
+    @Query("SELECT p FROM Performance p WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id) "
+            + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Performance> findLatestAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
     
-    @Query("SELECT p FROM Performance p WHERE p.startDate <= :today AND p.endDate >= :today")
-    List<Performance> findOngoingPerformances(@Param("today") LocalDate today);
+    // 자동완성 색인 구성용 (id 순서로 끊어서 읽기)
+    @Query("SELECT p FROM Performance p WHERE p.id > :lastId ORDER BY p.id")
+    List<Performance> findAllAfterId(@Param("lastId") Long lastId, Pageable pageable);
+    
+    // 상태 스냅샷용 id 목록 (예정/진행 중 공연은 수가 제한적)
+    @Query("SELECT p.id FROM Performance p WHERE p.status = :status ORDER BY p.startDate ASC, p.id ASC")
+    List<Long> findIdsByStatusOrderByStartDate(@Param("status") Status status);
+    
+    @Query("SELECT p.id FROM Performance p WHERE p.status = :status ORDER BY p.endDate ASC, p.id ASC")
+    List<Long> findIdsByStatusOrderByEndDate(@Param("status") Status status);
+    
+    // 종료된 공연은 계속 늘어나므로 (status, end_date, id) 커서로 조회
+    @Query("SELECT p FROM Performance p WHERE p.status = :status ORDER BY p.endDate DESC, p.id DESC")
+    List<Performance> findByStatusOrderByEndDateDesc(@Param("status") Status status, Pageable pageable);
+    
+    @Query("SELECT p FROM Performance p WHERE p.status = :status "
+            + "AND (p.endDate < :endDate OR (p.endDate = :endDate AND p.id < :id)) "
+            + "ORDER BY p.endDate DESC, p.id DESC")
+    List<Performance> findByStatusOrderByEndDateDescAfter(@Param("status") Status status,
+                                                          @Param("endDate") LocalDate endDate,
+                                                          @Param("id") Long id,
+                                                          Pageable pageable);
+    
+    // 날짜 기준 상태 일괄 전환 (취소된 공연은 건드리지 않고, 이미 맞는 행은 조건에서 빠지므로 반복 실행해도 동일)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE performances SET status = 'UPCOMING', updated_at = CURRENT_TIMESTAMP "
+                + "WHERE start_date > :today AND status IN ('ONGOING', 'COMPLETED')",
+           nativeQuery = true)
+    int markUpcoming(@Param("today") LocalDate today);
+    
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE performances SET status = 'ONGOING', updated_at = CURRENT_TIMESTAMP "
+                + "WHERE start_date <= :today AND end_date >= :today AND status IN ('UPCOMING', 'COMPLETED')",
+           nativeQuery = true)
+    int markOngoing(@Param("today") LocalDate today);
+    
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE performances SET status = 'COMPLETED', updated_at = CURRENT_TIMESTAMP "
+                + "WHERE end_date < :today AND status IN ('UPCOMING', 'ONGOING')",
+           nativeQuery = true)
+    int markCompleted(@Param("today") LocalDate today);
 }
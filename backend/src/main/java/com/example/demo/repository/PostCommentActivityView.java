@@ -0,0 +1,11 @@
+package com.example.demo.repository;
+
+import java.time.LocalDateTime;
+
+// 인기글 순위 재구성용 게시글 댓글 작성 시각
+public interface PostCommentActivityView {
+
+    Long getPostId();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,11 @@
+package com.example.demo.repository;
+
+// 게시글의 공연 id와 현재 좋아요 수
+public interface PostLikeCountView {
+
+    Long getId();
+
+    Long getPerformanceId();
+
+    Integer getLikeCount();
+}
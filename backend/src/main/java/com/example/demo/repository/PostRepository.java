@@ -5,29 +5,154 @@ import com.example.demo.entity.Post.PostType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
     
-    Page<Post> findByPerformanceId(Long performanceId, Pageable pageable);
+    String SUMMARY_SELECT = "SELECT p.id AS id, p.title AS title, p.excerpt AS excerpt, "
+            + "u.id AS userId, u.username AS username, u.email AS email, u.nickname AS nickname, "
+            + "u.profileImage AS profileImage, u.role AS role, u.createdAt AS userCreatedAt, "
+            + "p.postType AS postType, p.isSpoiler AS isSpoiler, p.viewCount AS viewCount, p.likeCount AS likeCount, "
+            + "p.commentCount AS commentCount, p.createdAt AS createdAt "
+            + "FROM Post p JOIN p.user u ";
     
-    Page<Post> findByPerformanceIdAndPostType(Long performanceId, PostType postType, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE p.performance.id = :performanceId",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.performance.id = :performanceId")
+    Page<PostSummaryView> findByPerformanceId(@Param("performanceId") Long performanceId, Pageable pageable);
     
-    Page<Post> findByPerformanceIdAndIsSpoiler(Long performanceId, Boolean isSpoiler, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE p.performance.id = :performanceId AND p.postType = :postType",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.performance.id = :performanceId AND p.postType = :postType")
+    Page<PostSummaryView> findByPerformanceIdAndPostType(
+        @Param("performanceId") Long performanceId, @Param("postType") PostType postType, Pageable pageable);
     
-    @Query("SELECT p FROM Post p WHERE p.performance.id = :performanceId ORDER BY p.createdAt DESC")
-    List<Post> findLatestPostsByPerformance(@Param("performanceId") Long performanceId);
+    @Query(value = SUMMARY_SELECT + "WHERE p.performance.id = :performanceId AND p.isSpoiler = :isSpoiler",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.performance.id = :performanceId AND p.isSpoiler = :isSpoiler")
+    Page<PostSummaryView> findByPerformanceIdAndIsSpoiler(
+        @Param("performanceId") Long performanceId, @Param("isSpoiler") Boolean isSpoiler, Pageable pageable);
     
-    @Query("SELECT p FROM Post p WHERE p.performance.id = :performanceId ORDER BY p.likeCount DESC")
-    List<Post> findTopPostsByPerformance(@Param("performanceId") Long performanceId);
+    // 커서 기반 목록 조회 (전체 건수 조회 없이 다음 페이지 여부만 판단)
+    @Query(SUMMARY_SELECT + "WHERE p.performance.id = :performanceId ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryView> findLatestSummaries(@Param("performanceId") Long performanceId, Pageable pageable);
     
-    Page<Post> findByUserId(Long userId, Pageable pageable);
+    @Query(SUMMARY_SELECT + "WHERE p.performance.id = :performanceId "
+            + "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) "
+            + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryView> findLatestSummariesAfter(@Param("performanceId") Long performanceId,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") Long id,
+                                                   Pageable pageable);
     
-    Page<Post> findByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(
-        String title, String content, Pageable pageable);
+    @Query(SUMMARY_SELECT + "WHERE p.performance.id = :performanceId ORDER BY p.likeCount DESC, p.id DESC")
+    List<PostSummaryView> findTopSummaries(@Param("performanceId") Long performanceId, Pageable pageable);
+    
+    @Query(SUMMARY_SELECT + "WHERE p.performance.id = :performanceId "
+            + "AND (p.likeCount < :likeCount OR (p.likeCount = :likeCount AND p.id < :id)) "
+            + "ORDER BY p.likeCount DESC, p.id DESC")
+    List<PostSummaryView> findTopSummariesAfter(@Param("performanceId") Long performanceId,
+                                                @Param("likeCount") Integer likeCount,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+    
+    // 투표 직후 좋아요순 창 갱신용 (좋아요 수는 같은 트랜잭션의 UPDATE 이후 값)
+    @Query("SELECT p.id AS id, p.performance.id AS performanceId, p.likeCount AS likeCount FROM Post p WHERE p.id = :postId")
+    Optional<PostLikeCountView> findLikeCountById(@Param("postId") Long postId);
+    
+    @Query(value = SUMMARY_SELECT + "WHERE u.id = :userId",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.user.id = :userId")
+    Page<PostSummaryView> findByUserId(@Param("userId") Long userId, Pageable pageable);
+    
+    @Query(value = SUMMARY_SELECT
+                + "WHERE LOWER(p.title) LIKE LOWER(CONCAT('%', :title, '%')) "
+                + "OR LOWER(p.content) LIKE LOWER(CONCAT('%', :content, '%'))",
+           countQuery = "SELECT COUNT(p) FROM Post p "
+                + "WHERE LOWER(p.title) LIKE LOWER(CONCAT('%', :title, '%')) "
+                + "OR LOWER(p.content) LIKE LOWER(CONCAT('%', :content, '%'))")
+    Page<PostSummaryView> findByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(
+        @Param("title") String title, @Param("content") String content, Pageable pageable);
+    
+    // 검색 색인에서 찾은 게시글 id 목록으로 요약 조회 (순서는 호출 측에서 맞춤)
+    @Query(SUMMARY_SELECT + "WHERE p.id IN :ids")
+    List<PostSummaryView> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // 검색 색인 재구성용 (id 순서로 끊어서 읽기)
+    @Query("SELECT p.id AS id, p.title AS title, p.content AS content FROM Post p WHERE p.id > :lastId ORDER BY p.id")
+    List<PostSearchDocument> findSearchDocumentsAfter(@Param("lastId") Long lastId, Pageable pageable);
+    
+    // 요약 컬럼이 추가되기 전에 작성된 게시글 채우기용
+    @Query("SELECT p.id AS id, p.title AS title, p.content AS content FROM Post p "
+            + "WHERE p.excerpt IS NULL AND p.id > :lastId ORDER BY p.id")
+    List<PostSearchDocument> findWithoutExcerptAfter(@Param("lastId") Long lastId, Pageable pageable);
+    
+    // 조회 후 그사이 수정된 게시글은 새 본문으로 계산한 요약이 이미 있으므로 덮어쓰지 않음
+    @Modifying
+    @Query("UPDATE Post p SET p.excerpt = :excerpt WHERE p.id = :postId AND p.excerpt IS NULL")
+    int updateExcerpt(@Param("postId") Long postId, @Param("excerpt") String excerpt);
+    
+    // 인기글 순위 재구성용 (최근 게시글만 id 순서로 끊어서 읽기)
+    @Query("SELECT p.id AS id, p.performance.id AS performanceId, p.createdAt AS createdAt, p.viewCount AS viewCount "
+            + "FROM Post p WHERE p.createdAt >= :since AND p.id > :lastId ORDER BY p.id")
+    List<TrendingPostView> findTrendingPostsAfter(@Param("since") LocalDateTime since,
+                                                 @Param("lastId") Long lastId,
+                                                 Pageable pageable);
+    
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta WHERE p.id = :postId")
+    int adjustCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+    
+    @Query("SELECT MAX(p.id) FROM Post p")
+    Long findMaxId();
+    
+    // 실제 댓글 수와 어긋난 comment_count를 id 구간 단위로 다시 계산
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE posts p SET comment_count = (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id) "
+                + "WHERE p.id BETWEEN :fromId AND :toId "
+                + "AND p.comment_count <> (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id)",
+           nativeQuery = true)
+    int reconcileCommentCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+    
+    // 투표 집계 컬럼 (투표/취소 시 증감)
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + :like, p.dislikeCount = p.dislikeCount + :dislike, "
+            + "p.agreeCount = p.agreeCount + :agree, p.disagreeCount = p.disagreeCount + :disagree "
+            + "WHERE p.id = :postId")
+    int adjustVoteCounts(@Param("postId") Long postId,
+                         @Param("like") int like,
+                         @Param("dislike") int dislike,
+                         @Param("agree") int agree,
+                         @Param("disagree") int disagree);
+    
+    @Query("SELECT p.id AS id, p.likeCount AS likeCount, p.dislikeCount AS dislikeCount, "
+            + "p.agreeCount AS agreeCount, p.disagreeCount AS disagreeCount FROM Post p WHERE p.id = :postId")
+    Optional<VoteTallyView> findVoteTally(@Param("postId") Long postId);
+    
+    @Query("SELECT p.id AS id, p.likeCount AS likeCount, p.dislikeCount AS dislikeCount, "
+            + "p.agreeCount AS agreeCount, p.disagreeCount AS disagreeCount FROM Post p WHERE p.id IN :postIds")
+    List<VoteTallyView> findVoteTallies(@Param("postIds") Collection<Long> postIds);
+    
+    // votes 테이블 기준으로 id 구간의 투표 집계를 다시 계산 (어긋난 행만 갱신)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE posts t SET "
+                + "like_count = (SELECT COUNT(*) FROM votes v WHERE v.post_id = t.id AND v.vote_type = 'LIKE'), "
+                + "dislike_count = (SELECT COUNT(*) FROM votes v WHERE v.post_id = t.id AND v.vote_type = 'DISLIKE'), "
+                + "agree_count = (SELECT COUNT(*) FROM votes v WHERE v.post_id = t.id AND v.vote_type = 'AGREE'), "
+                + "disagree_count = (SELECT COUNT(*) FROM votes v WHERE v.post_id = t.id AND v.vote_type = 'DISAGREE') "
+                + "WHERE t.id BETWEEN :fromId AND :toId "
+                + "AND (t.like_count <> (SELECT COUNT(*) FROM votes v WHERE v.post_id = t.id AND v.vote_type = 'LIKE') "
+                + "OR t.dislike_count <> (SELECT COUNT(*) FROM votes v WHERE v.post_id = t.id AND v.vote_type = 'DISLIKE') "
+                + "OR t.agree_count <> (SELECT COUNT(*) FROM votes v WHERE v.post_id = t.id AND v.vote_type = 'AGREE') "
+                + "OR t.disagree_count <> (SELECT COUNT(*) FROM votes v WHERE v.post_id = t.id AND v.vote_type = 'DISAGREE'))",
+           nativeQuery = true)
+    int rebuildVoteCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
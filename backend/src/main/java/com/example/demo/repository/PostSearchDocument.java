@@ -0,0 +1,11 @@
+package com.example.demo.repository;
+
+// 검색 색인 재구성에 필요한 게시글 필드
+public interface PostSearchDocument {
+
+    Long getId();
+
+    String getTitle();
+
+    String getContent();
+}
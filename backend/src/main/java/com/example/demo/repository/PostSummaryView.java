@@ -0,0 +1,42 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.Post;
+import com.example.demo.entity.User;
+
+import java.time.LocalDateTime;
+
+// 게시글 목록 조회용 프로젝션 (작성자 정보와 댓글 수를 한 번의 쿼리로 가져옴)
+public interface PostSummaryView {
+
+    Long getId();
+
+    String getTitle();
+
+    String getExcerpt();
+
+    Long getUserId();
+
+    String getUsername();
+
+    String getEmail();
+
+    String getNickname();
+
+    String getProfileImage();
+
+    User.Role getRole();
+
+    LocalDateTime getUserCreatedAt();
+
+    Post.PostType getPostType();
+
+    Boolean getIsSpoiler();
+
+    Integer getViewCount();
+
+    Integer getLikeCount();
+
+    Integer getCommentCount();
+
+    LocalDateTime getCreatedAt();
+}
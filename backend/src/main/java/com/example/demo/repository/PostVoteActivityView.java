@@ -0,0 +1,15 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.Vote;
+
+import java.time.LocalDateTime;
+
+// 인기글 순위 재구성용 게시글 투표 (시각 포함)
+public interface PostVoteActivityView {
+
+    Long getPostId();
+
+    Vote.VoteType getVoteType();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,15 @@
+package com.example.demo.repository;
+
+import java.time.LocalDateTime;
+
+// 인기글 순위 재구성에 필요한 게시글 필드
+public interface TrendingPostView {
+
+    Long getId();
+
+    Long getPerformanceId();
+
+    LocalDateTime getCreatedAt();
+
+    Integer getViewCount();
+}
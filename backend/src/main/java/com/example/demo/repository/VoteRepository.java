@@ -2,11 +2,14 @@ package com.example.demo.repository;
 
 import com.example.demo.entity.Vote;
 import com.example.demo.entity.Vote.VoteType;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +20,18 @@ public interface VoteRepository extends JpaRepository<Vote, Long> {
     
     Optional<Vote> findByUserIdAndCommentId(Long userId, Long commentId);
     
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT v FROM Vote v WHERE v.user.id = :userId AND v.post.id = :postId")
+    Optional<Vote> findForUpdateByUserIdAndPostId(@Param("userId") Long userId, @Param("postId") Long postId);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT v FROM Vote v WHERE v.user.id = :userId AND v.comment.id = :commentId")
+    Optional<Vote> findForUpdateByUserIdAndCommentId(@Param("userId") Long userId, @Param("commentId") Long commentId);
+    
+    List<Vote> findByUserIdAndPostIdIn(Long userId, Collection<Long> postIds);
+    
+    List<Vote> findByUserIdAndCommentIdIn(Long userId, Collection<Long> commentIds);
+    
     List<Vote> findByPostIdAndVoteType(Long postId, VoteType voteType);
     
     List<Vote> findByCommentIdAndVoteType(Long commentId, VoteType voteType);
@@ -27,6 +42,10 @@ public interface VoteRepository extends JpaRepository<Vote, Long> {
     @Query("SELECT COUNT(v) FROM Vote v WHERE v.comment.id = :commentId AND v.voteType = :voteType")
     long countByCommentIdAndVoteType(@Param("commentId") Long commentId, @Param("voteType") VoteType voteType);
     
+    // 인기글 순위 재구성용 (게시글별 투표 종류와 시각)
+    @Query("SELECT v.post.id AS postId, v.voteType AS voteType, v.createdAt AS createdAt FROM Vote v WHERE v.post.id IN :postIds")
+    List<PostVoteActivityView> findPostVoteActivity(@Param("postIds") Collection<Long> postIds);
+    
     boolean existsByUserIdAndPostId(Long userId, Long postId);
     
     boolean existsByUserIdAndCommentId(Long userId, Long commentId);
@@ -0,0 +1,15 @@
+package com.example.demo.repository;
+
+// 게시글/댓글에 저장된 투표 집계 값
+public interface VoteTallyView {
+
+    Long getId();
+
+    Integer getLikeCount();
+
+    Integer getDislikeCount();
+
+    Integer getAgreeCount();
+
+    Integer getDisagreeCount();
+}
@@ -1,24 +1,43 @@
 package com.example.demo.security;
 
+import com.example.demo.config.ReadWriteRoutingDataSource;
 import com.example.demo.entity.User;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.service.ReadThroughCache;
+import com.example.demo.service.TransactionCallbacks;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
     
     private final UserRepository userRepository;
+    private final ReadThroughCache<String, UserDetails> principalCache;
     
+    // 인증 조회는 주 DB에서 (로그인 요청은 익명이라 read-your-writes가 적용되지 않아 가입 직후에는 복제본에 아직 없을 수 있음)
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
+        User user = ReadWriteRoutingDataSource.onPrimary(() -> userRepository.findByUsername(username))
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username));
         
         return user; // User 엔티티가 이미 UserDetails를 구현하고 있음
     }
+    
+    // 로그인 성공 시 저장된 해시의 BCrypt 비용이 설정값보다 낮으면 새 해시로 교체
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + userDetails.getUsername()));
+        
+        user.setPassword(newPassword);
+        TransactionCallbacks.afterCommit(() -> principalCache.evict(user.getUsername()));
+        return user;
+    }
 }
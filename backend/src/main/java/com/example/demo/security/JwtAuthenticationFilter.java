@@ -1,11 +1,14 @@
 package com.example.demo.security;
 
+import com.example.demo.service.ReadThroughCache;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -24,6 +27,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtTokenProvider tokenProvider;
     private final UserDetailsService userDetailsService;
+    private final ReadThroughCache<String, UserDetails> principalCache;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    
+    @Value("${app.jwt.stateless-principal:false}")
+    private boolean statelessPrincipal;
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -31,10 +39,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
             
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String username = tokenProvider.getUsernameFromToken(jwt);
-                
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            Claims claims = StringUtils.hasText(jwt) ? tokenProvider.parseToken(jwt) : null;
+            
+            if (claims != null && !isRevoked(claims)) {
+                UserDetails userDetails = resolvePrincipal(claims);
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -48,6 +56,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
     
+    // 토큰 버전이 사용자 현재 버전보다 낮으면 폐기된 토큰
+    private boolean isRevoked(Claims claims) {
+        Long userId = claims.get(JwtTokenProvider.CLAIM_USER_ID, Long.class);
+        Integer version = claims.get(JwtTokenProvider.CLAIM_TOKEN_VERSION, Integer.class);
+        if (userId == null || version == null) {
+            return false;
+        }
+        return version < tokenVersionRegistry.currentVersion(userId);
+    }
+    
+    private UserDetails resolvePrincipal(Claims claims) {
+        String username = claims.getSubject();
+        Long userId = claims.get(JwtTokenProvider.CLAIM_USER_ID, Long.class);
+        String role = claims.get(JwtTokenProvider.CLAIM_ROLE, String.class);
+        
+        // stateless 모드에서는 claims만으로 인증 주체 생성 (이전 형식 토큰은 DB 조회)
+        if (statelessPrincipal && userId != null && role != null) {
+            return new JwtPrincipal(userId, username, role);
+        }
+        return principalCache.get(username, userDetailsService::loadUserByUsername);
+    }
+    
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -1,28 +1,54 @@
 package com.example.demo.security;
 
+import com.example.demo.entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
     
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+    
     @Value("${app.jwt.secret:defaultSecretKey}")
     private String jwtSecret;
     
     @Value("${app.jwt.expiration:86400000}")
     private int jwtExpirationMs;
     
+    @Value("${app.jwt.claims-cache-size:10000}")
+    private int claimsCacheSize;
+    
+    private Key signingKey;
+    private JwtParser jwtParser;
+    // 검증된 토큰 -> claims (토큰의 exp가 지나면 제거, 요청마다 잠금 없이 조회)
+    private final Map<String, Claims> claimsCache = new ConcurrentHashMap<>();
+    
+    // 서명 키와 파서는 시작할 때 한 번만 생성
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+    
     private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        return signingKey;
     }
     
     public String generateToken(Authentication authentication) {
@@ -31,31 +57,39 @@ public class JwtTokenProvider {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
         
-        return Jwts.builder()
-                .setSubject(userPrincipal.getUsername())
+        JwtBuilder builder = Jwts.builder()
+                .setSubject(userPrincipal.getUsername());
+        
+        // 필터가 DB 조회 없이 인증 주체를 만들 수 있도록 id, 권한, 토큰 버전을 함께 담음
+        if (userPrincipal instanceof User user) {
+            builder.claim(CLAIM_USER_ID, user.getId())
+                    .claim(CLAIM_ROLE, user.getRole().name())
+                    .claim(CLAIM_TOKEN_VERSION, user.getTokenVersion());
+        }
+        
+        return builder
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .signWith(getSigningKey(), SignatureAlgorithm.HS512)
                 .compact();
     }
     
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    // 토큰을 한 번만 검증/파싱해서 claims 반환 (유효하지 않으면 null)
+    public Claims parseToken(String token) {
+        long now = System.currentTimeMillis();
+        
+        Claims cached = claimsCache.get(token);
+        if (cached != null) {
+            if (!isExpired(cached, now)) {
+                return cached;
+            }
+            claimsCache.remove(token, cached);
+        }
         
-        return claims.getSubject();
-    }
-    
-    public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            cache(token, claims, now);
+            return claims;
         } catch (SecurityException ex) {
             log.error("Invalid JWT signature");
         } catch (MalformedJwtException ex) {
@@ -66,7 +100,44 @@ public class JwtTokenProvider {
             log.error("Unsupported JWT token");
         } catch (IllegalArgumentException ex) {
             log.error("JWT claims string is empty");
+        } catch (JwtException ex) {
+            log.error("Invalid JWT signature");
         }
-        return false;
+        return null;
+    }
+    
+    // 만료된 토큰은 주기적으로 정리
+    @Scheduled(fixedDelayString = "${app.jwt.claims-cache-purge-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        claimsCache.values().removeIf(claims -> isExpired(claims, now));
+    }
+    
+    int cachedTokenCount() {
+        return claimsCache.size();
+    }
+    
+    // 크기 제한을 넘으면 만료된 토큰부터 정리하고, 그래도 넘으면 비움 (이후 요청은 다시 파싱해서 채움)
+    private void cache(String token, Claims claims, long now) {
+        if (claimsCache.size() >= claimsCacheSize) {
+            claimsCache.values().removeIf(cached -> isExpired(cached, now));
+            if (claimsCache.size() >= claimsCacheSize) {
+                claimsCache.clear();
+            }
+        }
+        claimsCache.put(token, claims);
+    }
+    
+    private boolean isExpired(Claims claims, long now) {
+        return claims.getExpiration() != null && claims.getExpiration().getTime() <= now;
+    }
+    
+    public String getUsernameFromToken(String token) {
+        Claims claims = parseToken(token);
+        return claims != null ? claims.getSubject() : null;
+    }
+    
+    public boolean validateToken(String token) {
+        return parseToken(token) != null;
     }
 }
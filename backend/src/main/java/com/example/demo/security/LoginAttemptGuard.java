@@ -0,0 +1,99 @@
+package com.example.demo.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 사용자명/IP별로 최근 window 동안의 로그인 실패 횟수를 세고(슬라이딩 윈도), 한도를 넘으면 비밀번호 검증 전에 차단
+@Component
+public class LoginAttemptGuard {
+    
+    private final int maxFailuresPerUsername;
+    private final int maxFailuresPerIp;
+    private final long windowMillis;
+    private final Clock clock;
+    
+    private final Map<String, FailureLog> failures = new ConcurrentHashMap<>();
+    
+    public LoginAttemptGuard(@Value("${app.security.login.max-failures-per-username:5}") int maxFailuresPerUsername,
+                             @Value("${app.security.login.max-failures-per-ip:20}") int maxFailuresPerIp,
+                             @Value("${app.security.login.failure-window-ms:900000}") long windowMillis,
+                             Clock clock) {
+        this.maxFailuresPerUsername = maxFailuresPerUsername;
+        this.maxFailuresPerIp = maxFailuresPerIp;
+        this.windowMillis = windowMillis;
+        this.clock = clock;
+    }
+    
+    public boolean isBlocked(String username, String clientIp) {
+        long now = clock.millis();
+        return count(usernameKey(username), now) >= maxFailuresPerUsername
+                || count(ipKey(clientIp), now) >= maxFailuresPerIp;
+    }
+    
+    public void recordFailure(String username, String clientIp) {
+        long now = clock.millis();
+        record(usernameKey(username), now, maxFailuresPerUsername);
+        record(ipKey(clientIp), now, maxFailuresPerIp);
+    }
+    
+    public void recordSuccess(String username) {
+        failures.remove(usernameKey(username));
+    }
+    
+    @Scheduled(fixedDelay = 60000)
+    public void purgeExpired() {
+        long from = clock.millis() - windowMillis;
+        failures.values().removeIf(log -> log.countSince(from) == 0);
+    }
+    
+    int trackedKeyCount() {
+        return failures.size();
+    }
+    
+    private int count(String key, long now) {
+        FailureLog log = failures.get(key);
+        return log == null ? 0 : log.countSince(now - windowMillis);
+    }
+    
+    private void record(String key, long now, int limit) {
+        failures.compute(key, (k, log) -> (log == null ? FailureLog.EMPTY : log).append(now, now - windowMillis, limit));
+    }
+    
+    private String usernameKey(String username) {
+        return "user:" + username.toLowerCase();
+    }
+    
+    private String ipKey(String clientIp) {
+        return "ip:" + clientIp;
+    }
+    
+    // 창 안의 실패 시각 (오래된 순). 차단 여부만 보면 되므로 최근 limit개까지만 보관
+    private record FailureLog(long[] times) {
+        
+        static final FailureLog EMPTY = new FailureLog(new long[0]);
+        
+        int countSince(long from) {
+            int count = 0;
+            for (long time : times) {
+                if (time > from) {
+                    count++;
+                }
+            }
+            return count;
+        }
+        
+        FailureLog append(long now, long from, int limit) {
+            long[] recent = Arrays.stream(times).filter(time -> time > from).toArray();
+            int start = Math.max(0, recent.length + 1 - Math.max(limit, 1));
+            long[] next = Arrays.copyOfRange(recent, start, recent.length + 1);
+            next[next.length - 1] = now;
+            return new FailureLog(next);
+        }
+    }
+}
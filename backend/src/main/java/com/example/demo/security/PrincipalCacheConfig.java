@@ -0,0 +1,20 @@
+package com.example.demo.security;
+
+import com.example.demo.service.ReadThroughCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.core.userdetails.UserDetails;
+
+// SecurityConfig와 분리 (SecurityConfig -> JwtAuthenticationFilter -> 캐시로 이어지는 순환 참조 방지)
+@Configuration
+public class PrincipalCacheConfig {
+    
+    // JWT 인증 시 사용자 조회 결과를 잠시 보관 (조회는 항상 주 DB에서 하므로 복제 지연 보정은 필요 없음)
+    @Bean
+    public ReadThroughCache<String, UserDetails> principalCache(
+            @Value("${app.security.principal-cache.ttl-ms:60000}") long ttlMillis,
+            @Value("${app.security.principal-cache.max-size:10000}") int maxSize) {
+        return new ReadThroughCache<>("security.principals", ttlMillis, maxSize);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.demo.security;
+
+import com.example.demo.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 사용자별 토큰 버전 (토큰의 버전이 더 낮으면 폐기된 토큰)
+@Component
+@RequiredArgsConstructor
+public class TokenVersionRegistry {
+    
+    private final UserRepository userRepository;
+    
+    // 버전이 0보다 큰 사용자만 보관
+    private final Map<Long, Integer> versions = new ConcurrentHashMap<>();
+    
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${app.jwt.token-version-refresh-ms:30000}")
+    public void refresh() {
+        for (Object[] row : userRepository.findTokenVersions()) {
+            update((Long) row[0], (Integer) row[1]);
+        }
+    }
+    
+    public int currentVersion(Long userId) {
+        return versions.getOrDefault(userId, 0);
+    }
+    
+    public void update(Long userId, int version) {
+        versions.merge(userId, version, Math::max);
+    }
+}
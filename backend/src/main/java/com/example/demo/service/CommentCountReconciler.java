@@ -0,0 +1,38 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountReconciler {
+
+    private final PostRepository postRepository;
+
+    @Value("${app.comment-count.reconcile-batch-size:1000}")
+    private int batchSize;
+
+    // 게시글 id 구간별로 나눠서 어긋난 댓글 수만 다시 계산 (구간마다 별도 트랜잭션)
+    @Scheduled(cron = "${app.comment-count.reconcile-cron:0 30 4 * * *}")
+    public int reconcile() {
+        Long maxId = postRepository.findMaxId();
+        if (maxId == null) {
+            return 0;
+        }
+
+        int fixed = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += batchSize) {
+            fixed += postRepository.reconcileCommentCounts(fromId, fromId + batchSize - 1);
+        }
+
+        if (fixed > 0) {
+            log.warn("Reconciled comment_count for {} posts", fixed);
+        }
+        return fixed;
+    }
+}
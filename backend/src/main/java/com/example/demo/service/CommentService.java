@@ -1,19 +1,27 @@
 package com.example.demo.service;
 
 import com.example.demo.dto.CommentDto;
+import com.example.demo.dto.CursorDto;
 import com.example.demo.entity.Comment;
 import com.example.demo.entity.Post;
 import com.example.demo.entity.User;
+import com.example.demo.repository.CommentActivityView;
 import com.example.demo.repository.CommentRepository;
 import com.example.demo.repository.PostRepository;
 import com.example.demo.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,9 +29,13 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class CommentService {
     
+    private static final int MAX_PREVIEW_REPLIES = 20;
+    
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final TrendingPostIndex trendingPostIndex;
+    private final PostWindowCache postWindowCache;
     
     @Transactional
     public CommentDto.CommentResponse createComment(Long userId, CommentDto.CreateRequest request) {
@@ -52,15 +64,92 @@ public class CommentService {
         
         Comment savedComment = commentRepository.save(comment);
         
+        // 게시글의 댓글 수 증가
+        postRepository.adjustCommentCount(post.getId(), 1);
+        trendingPostIndex.onCommentCreated(post.getId(), savedComment.getCreatedAt());
+        postWindowCache.onCommentCountChanged(post.getPerformance().getId(), post.getId(), 1);
+        
         return convertToCommentResponse(savedComment);
     }
     
     public List<CommentDto.CommentResponse> getCommentsByPost(Long postId) {
-        List<Comment> topLevelComments = commentRepository.findTopLevelCommentsByPost(postId);
+        // 게시글의 모든 댓글을 작성자와 함께 한 번에 조회한 뒤 메모리에서 트리 구성
+        List<Comment> comments = commentRepository.findAllWithUserByPostId(postId);
         
-        return topLevelComments.stream()
-                .map(this::convertToCommentResponseWithReplies)
-                .collect(Collectors.toList());
+        Map<Long, CommentDto.CommentResponse> nodes = new LinkedHashMap<>();
+        for (Comment comment : comments) {
+            CommentDto.CommentResponse node = convertToCommentResponse(comment);
+            node.setReplies(new ArrayList<>());
+            nodes.put(comment.getId(), node);
+        }
+        
+        List<CommentDto.CommentResponse> roots = new ArrayList<>();
+        for (CommentDto.CommentResponse node : nodes.values()) {
+            CommentDto.CommentResponse parent = node.getParentId() != null ? nodes.get(node.getParentId()) : null;
+            if (parent != null) {
+                parent.getReplies().add(node);
+            } else {
+                roots.add(node);
+            }
+        }
+        
+        return roots;
+    }
+    
+    public CursorDto.SliceResponse<CommentDto.CommentResponse> getCommentThreads(Long postId, String cursor, int size, int replyLimit) {
+        int pageSize = CursorDto.clampSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        
+        List<Comment> comments;
+        if (cursor == null) {
+            comments = commentRepository.findTopLevelComments(postId, limit);
+        } else {
+            CursorDto.Cursor decoded = CursorDto.Cursor.decode(cursor);
+            comments = commentRepository.findTopLevelCommentsAfter(postId, decoded.getKeyAsDateTime(), decoded.getId(), limit);
+        }
+        
+        Map<Long, Long> replyCounts = countReplies(postId, CursorDto.page(comments, pageSize));
+        CursorDto.SliceResponse<CommentDto.CommentResponse> slice = CursorDto.slice(comments, pageSize,
+                comment -> CursorDto.Cursor.encode(comment.getCreatedAt(), comment.getId()),
+                comment -> convertToCommentResponse(comment, replyCounts));
+        
+        // 각 스레드마다 앞쪽 대댓글 일부만 미리 붙여서 내려줌
+        int previewSize = Math.min(Math.max(replyLimit, 0), MAX_PREVIEW_REPLIES);
+        if (previewSize > 0 && !slice.getContent().isEmpty()) {
+            Map<Long, CommentDto.CommentResponse> threads = new LinkedHashMap<>();
+            slice.getContent().forEach(thread -> threads.put(thread.getId(), thread));
+            
+            List<Long> replyIds = commentRepository.findFirstReplyIdsByParentIds(postId, threads.keySet(), previewSize);
+            List<Comment> replies = replyIds.isEmpty() ? List.of() : commentRepository.findAllWithUserByIdIn(replyIds);
+            List<CommentDto.CommentResponse> replyResponses = toResponsesWithReplyCount(postId, replies);
+            for (CommentDto.CommentResponse reply : replyResponses) {
+                threads.get(reply.getParentId()).getReplies().add(reply);
+            }
+        }
+        
+        return slice;
+    }
+    
+    public CursorDto.SliceResponse<CommentDto.CommentResponse> getReplies(Long commentId, String cursor, int size) {
+        Comment parent = commentRepository.findById(commentId)
+                .orElseThrow(() -> new RuntimeException("댓글을 찾을 수 없습니다."));
+        Long postId = parent.getPost().getId();
+        
+        int pageSize = CursorDto.clampSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        
+        List<Comment> replies;
+        if (cursor == null) {
+            replies = commentRepository.findReplies(postId, commentId, limit);
+        } else {
+            CursorDto.Cursor decoded = CursorDto.Cursor.decode(cursor);
+            replies = commentRepository.findRepliesAfter(postId, commentId, decoded.getKeyAsDateTime(), decoded.getId(), limit);
+        }
+        
+        Map<Long, Long> replyCounts = countReplies(postId, CursorDto.page(replies, pageSize));
+        return CursorDto.slice(replies, pageSize,
+                reply -> CursorDto.Cursor.encode(reply.getCreatedAt(), reply.getId()),
+                reply -> convertToCommentResponse(reply, replyCounts));
     }
     
     public Page<CommentDto.CommentSummary> getCommentsByUser(Long userId, Pageable pageable) {
@@ -69,6 +158,32 @@ public class CommentService {
         return comments.map(this::convertToCommentSummary);
     }
     
+    public CursorDto.SliceResponse<CommentDto.CommentSummary> getCommentsByUserWithCursor(Long userId, String after, int size) {
+        int pageSize = CursorDto.clampSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        
+        List<Comment> comments;
+        if (after == null) {
+            comments = commentRepository.findLatestByUserId(userId, limit);
+        } else {
+            CursorDto.Cursor cursor = CursorDto.Cursor.decode(after);
+            comments = commentRepository.findLatestByUserIdAfter(userId, cursor.getKeyAsDateTime(), cursor.getId(), limit);
+        }
+        
+        // 대댓글 수는 응답에 나가는 행만 (다음 페이지 확인용으로 더 읽은 행은 제외)
+        Map<Long, Long> replyCounts = new HashMap<>();
+        if (!comments.isEmpty()) {
+            List<Long> ids = CursorDto.page(comments, pageSize).stream().map(Comment::getId).toList();
+            for (Object[] row : commentRepository.countRepliesByParentIdIn(ids)) {
+                replyCounts.put((Long) row[0], (Long) row[1]);
+            }
+        }
+        
+        return CursorDto.slice(comments, pageSize,
+                comment -> CursorDto.Cursor.encode(comment.getCreatedAt(), comment.getId()),
+                comment -> convertToCommentSummary(comment, replyCounts));
+    }
+    
     public List<CommentDto.CommentResponse> getTopCommentsByPost(Long postId) {
         List<Comment> comments = commentRepository.findTopCommentsByPost(postId);
         
@@ -109,7 +224,31 @@ public class CommentService {
             throw new RuntimeException("댓글을 삭제할 권한이 없습니다.");
         }
         
+        // 함께 삭제되는 대댓글까지 포함해서 댓글 수 감소
+        List<LocalDateTime> deletedCreatedAts = new ArrayList<>();
+        deletedCreatedAts.add(comment.getCreatedAt());
+        deletedCreatedAts.addAll(descendantCreatedAts(commentId));
+        int deletedCount = deletedCreatedAts.size();
+        Long postId = comment.getPost().getId();
+        Long performanceId = comment.getPost().getPerformance().getId();
+        
         commentRepository.deleteById(commentId);
+        postRepository.adjustCommentCount(postId, -deletedCount);
+        trendingPostIndex.onCommentsDeleted(postId, deletedCreatedAts);
+        postWindowCache.onCommentCountChanged(performanceId, postId, -deletedCount);
+    }
+    
+    private List<LocalDateTime> descendantCreatedAts(Long commentId) {
+        List<LocalDateTime> createdAts = new ArrayList<>();
+        List<Long> parentIds = List.of(commentId);
+        
+        while (!parentIds.isEmpty()) {
+            List<CommentActivityView> children = commentRepository.findActivityByParentIdIn(parentIds);
+            children.forEach(child -> createdAts.add(child.getCreatedAt()));
+            parentIds = children.stream().map(CommentActivityView::getId).toList();
+        }
+        
+        return createdAts;
     }
     
     private CommentDto.CommentResponse convertToCommentResponse(Comment comment) {
@@ -129,24 +268,44 @@ public class CommentService {
                 .build();
     }
     
-    private CommentDto.CommentResponse convertToCommentResponseWithReplies(Comment comment) {
-        List<CommentDto.CommentResponse> replies = comment.getReplies().stream()
-                .map(this::convertToCommentResponse)
-                .collect(Collectors.toList());
+    private List<CommentDto.CommentResponse> toResponsesWithReplyCount(Long postId, List<Comment> comments) {
+        Map<Long, Long> replyCounts = countReplies(postId, comments);
+        return comments.stream()
+                .map(comment -> convertToCommentResponse(comment, replyCounts))
+                .toList();
+    }
+    
+    // 댓글 목록의 대댓글 수를 한 번의 GROUP BY 쿼리로 계산
+    private Map<Long, Long> countReplies(Long postId, List<Comment> comments) {
+        Map<Long, Long> replyCounts = new HashMap<>();
+        if (comments.isEmpty()) {
+            return replyCounts;
+        }
         
-        return CommentDto.CommentResponse.builder()
+        List<Long> ids = comments.stream().map(Comment::getId).toList();
+        for (Object[] row : commentRepository.countRepliesByParentIds(postId, ids)) {
+            replyCounts.put((Long) row[0], (Long) row[1]);
+        }
+        return replyCounts;
+    }
+    
+    private CommentDto.CommentResponse convertToCommentResponse(Comment comment, Map<Long, Long> replyCounts) {
+        CommentDto.CommentResponse response = convertToCommentResponse(comment);
+        response.setReplyCount(replyCounts.getOrDefault(comment.getId(), 0L).intValue());
+        response.setReplies(new ArrayList<>());
+        return response;
+    }
+    
+    private CommentDto.CommentSummary convertToCommentSummary(Comment comment, Map<Long, Long> replyCounts) {
+        return CommentDto.CommentSummary.builder()
                 .id(comment.getId())
                 .content(comment.getContent())
                 .user(convertToUserResponse(comment.getUser()))
-                .postId(comment.getPost().getId())
-                .parentId(comment.getParent() != null ? comment.getParent().getId() : null)
                 .depth(comment.getDepth())
                 .isSpoiler(comment.getIsSpoiler())
                 .likeCount(comment.getLikeCount())
-                .dislikeCount(comment.getDislikeCount())
-                .replies(replies)
+                .replyCount(replyCounts.getOrDefault(comment.getId(), 0L).intValue())
                 .createdAt(comment.getCreatedAt())
-                .updatedAt(comment.getUpdatedAt())
                 .build();
     }
     
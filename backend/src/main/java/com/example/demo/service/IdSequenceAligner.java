@@ -0,0 +1,47 @@
+package com.example.demo.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// IDENTITY로 쌓인 기존 id를 그대로 두고 시퀀스로 넘어갈 수 있도록, 시퀀스가 최대 id 뒤에서 시작하게 맞춤
+// (스키마 생성 직후, 웹 요청을 받기 전에 실행. 빈 테이블이나 이미 맞춰진 시퀀스는 그대로 둠)
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class IdSequenceAligner {
+
+    // 테이블 → 엔티티의 @SequenceGenerator 시퀀스
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "users", "users_seq",
+            "performances", "performances_seq",
+            "posts", "posts_seq",
+            "comments", "comments_seq",
+            "votes", "votes_seq");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void align() {
+        SEQUENCES.forEach(this::align);
+    }
+
+    private void align(String table, String sequence) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        if (maxId == null) {
+            return;
+        }
+        Long next = jdbcTemplate.queryForObject("SELECT nextval('" + sequence + "')", Long.class);
+        if (next != null && next > maxId) {
+            return;
+        }
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (maxId + 1));
+        log.warn("Restarted {} at {} to continue after existing {} ids", sequence, maxId + 1, table);
+    }
+}
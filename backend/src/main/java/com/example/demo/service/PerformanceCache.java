@@ -0,0 +1,63 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.CacheDto;
+import com.example.demo.dto.PerformanceDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 공연 상세/요약/전체 목록 페이지 캐시 (공연이 등록/수정/삭제되면 커밋 후 무효화)
+@Component
+public class PerformanceCache {
+
+    private final ReadThroughCache<Long, PerformanceDto.PerformanceResponse> details;
+    private final ReadThroughCache<Long, PerformanceDto.PerformanceSummary> summaries;
+    private final ReadThroughCache<String, Page<PerformanceDto.PerformanceSummary>> pages;
+
+    public PerformanceCache(@Value("${app.performance.cache.ttl-ms:300000}") long ttlMillis,
+                            @Value("${app.performance.cache.max-size:5000}") int maxSize,
+                            @Value("${app.performance.cache.list-max-size:200}") int listMaxSize,
+                            @Value("${app.datasource.replica.enabled:false}") boolean replicaEnabled,
+                            @Value("${app.datasource.replica.read-your-writes-ms:5000}") long replicaLagMillis) {
+        // 복제본을 쓰면 무효화 직후 로딩한 값은 복제 지연 구간이 끝날 때까지만 캐시
+        long lagMillis = replicaEnabled ? replicaLagMillis : 0;
+        this.details = new ReadThroughCache<>("performance.details", ttlMillis, maxSize, lagMillis);
+        this.summaries = new ReadThroughCache<>("performance.summaries", ttlMillis, maxSize, lagMillis);
+        this.pages = new ReadThroughCache<>("performance.pages", ttlMillis, listMaxSize, lagMillis);
+    }
+
+    public ReadThroughCache<Long, PerformanceDto.PerformanceResponse> details() {
+        return details;
+    }
+
+    public ReadThroughCache<Long, PerformanceDto.PerformanceSummary> summaries() {
+        return summaries;
+    }
+
+    public ReadThroughCache<String, Page<PerformanceDto.PerformanceSummary>> pages() {
+        return pages;
+    }
+
+    // 공연 하나가 바뀌면 해당 공연 항목과 모든 목록을 무효화
+    public void evictAfterCommit(Long performanceId) {
+        TransactionCallbacks.afterCommit(() -> {
+            if (performanceId != null) {
+                details.evict(performanceId);
+                summaries.evict(performanceId);
+            }
+            pages.clear();
+        });
+    }
+
+    public void clear() {
+        details.clear();
+        summaries.clear();
+        pages.clear();
+    }
+
+    public List<CacheDto.CacheStats> stats() {
+        return List.of(details.stats(), summaries.stats(), pages.stats());
+    }
+}
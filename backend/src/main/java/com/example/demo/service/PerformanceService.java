@@ -1,16 +1,24 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.CursorDto;
 import com.example.demo.dto.PerformanceDto;
 import com.example.demo.entity.Performance;
 import com.example.demo.repository.PerformanceRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -18,6 +26,10 @@ import java.util.List;
 public class PerformanceService {
     
     private final PerformanceRepository performanceRepository;
+    private final PerformanceSuggestIndex performanceSuggestIndex;
+    private final PerformanceCache performanceCache;
+    private final PerformanceStatusSnapshot performanceStatusSnapshot;
+    private final Clock clock;
     
     @Transactional
     public PerformanceDto.PerformanceResponse createPerformance(PerformanceDto.CreateRequest request) {
@@ -32,23 +44,60 @@ public class PerformanceService {
                 .runningTime(request.getRunningTime())
                 .status(request.getStatus() != null ? request.getStatus() : Performance.Status.UPCOMING)
                 .build();
+        performance.refreshStatus(LocalDate.now(clock));
         
         Performance savedPerformance = performanceRepository.save(performance);
+        performanceSuggestIndex.indexAfterCommit(savedPerformance);
+        performanceCache.evictAfterCommit(savedPerformance.getId());
+        performanceStatusSnapshot.rebuildAfterCommit();
         
         return convertToPerformanceResponse(savedPerformance);
     }
     
     public PerformanceDto.PerformanceResponse getPerformanceById(Long performanceId) {
-        Performance performance = performanceRepository.findById(performanceId)
-                .orElseThrow(() -> new RuntimeException("공연을 찾을 수 없습니다."));
-        
-        return convertToPerformanceResponse(performance);
+        return performanceCache.details().get(performanceId, id -> {
+            Performance performance = performanceRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("공연을 찾을 수 없습니다."));
+            
+            return convertToPerformanceResponse(performance);
+        });
+    }
+    
+    // 게시글 응답 등에 붙는 공연 요약 (캐시 사용)
+    public PerformanceDto.PerformanceSummary getPerformanceSummary(Long performanceId) {
+        return performanceCache.summaries().get(performanceId, id -> {
+            Performance performance = performanceRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("공연을 찾을 수 없습니다."));
+            
+            return convertToPerformanceSummary(performance);
+        });
     }
     
     public Page<PerformanceDto.PerformanceSummary> getAllPerformances(Pageable pageable) {
-        Page<Performance> performances = performanceRepository.findAll(pageable);
+        String key = pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + pageable.getSort();
         
-        return performances.map(this::convertToPerformanceSummary);
+        return performanceCache.pages().get(key, k -> {
+            Page<Performance> performances = performanceRepository.findAll(pageable);
+            
+            return performances.map(this::convertToPerformanceSummary);
+        });
+    }
+    
+    public CursorDto.SliceResponse<PerformanceDto.PerformanceSummary> getPerformancesWithCursor(String after, int size) {
+        int pageSize = CursorDto.clampSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        
+        List<Performance> performances;
+        if (after == null) {
+            performances = performanceRepository.findLatest(limit);
+        } else {
+            CursorDto.Cursor cursor = CursorDto.Cursor.decode(after);
+            performances = performanceRepository.findLatestAfter(cursor.getKeyAsDateTime(), cursor.getId(), limit);
+        }
+        
+        return CursorDto.slice(performances, pageSize,
+                performance -> CursorDto.Cursor.encode(performance.getCreatedAt(), performance.getId()),
+                this::convertToPerformanceSummary);
     }
     
     public Page<PerformanceDto.PerformanceSummary> getPerformancesByStatus(Performance.Status status, Pageable pageable) {
@@ -63,28 +112,44 @@ public class PerformanceService {
         return performances.map(this::convertToPerformanceSummary);
     }
     
-    public List<PerformanceDto.PerformanceSummary> getUpcomingPerformances() {
-        List<Performance> performances = performanceRepository.findUpcomingPerformances(LocalDate.now());
-        
-        return performances.stream()
-                .map(this::convertToPerformanceSummary)
-                .toList();
+    // 입력 중인 검색어의 자동완성 후보 (색인이 준비되기 전에는 제목 LIKE 검색)
+    public List<PerformanceDto.Suggestion> suggestPerformances(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        if (!performanceSuggestIndex.isReady()) {
+            return performanceRepository.findByTitleContainingIgnoreCase(query.trim(), PageRequest.of(0, Math.max(limit, 1)))
+                    .map(this::convertToSuggestion)
+                    .getContent();
+        }
+        return performanceSuggestIndex.suggest(query, limit);
     }
     
-    public List<PerformanceDto.PerformanceSummary> getOngoingPerformances() {
-        List<Performance> performances = performanceRepository.findOngoingPerformances(LocalDate.now());
-        
-        return performances.stream()
-                .map(this::convertToPerformanceSummary)
-                .toList();
+    // 예정/진행 중 공연은 스냅샷의 id 목록을 페이지 단위로 잘라서 조회
+    public Page<PerformanceDto.PerformanceSummary> getUpcomingPerformances(Pageable pageable) {
+        return toPage(performanceStatusSnapshot.getUpcomingIds(), pageable);
+    }
+    
+    public Page<PerformanceDto.PerformanceSummary> getOngoingPerformances(Pageable pageable) {
+        return toPage(performanceStatusSnapshot.getOngoingIds(), pageable);
     }
     
-    public List<PerformanceDto.PerformanceSummary> getCompletedPerformances() {
-        List<Performance> performances = performanceRepository.findCompletedPerformances(LocalDate.now());
+    public CursorDto.SliceResponse<PerformanceDto.PerformanceSummary> getCompletedPerformances(String after, int size) {
+        int pageSize = CursorDto.clampSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
         
-        return performances.stream()
-                .map(this::convertToPerformanceSummary)
-                .toList();
+        List<Performance> performances;
+        if (after == null) {
+            performances = performanceRepository.findByStatusOrderByEndDateDesc(Performance.Status.COMPLETED, limit);
+        } else {
+            CursorDto.Cursor cursor = CursorDto.Cursor.decode(after);
+            performances = performanceRepository.findByStatusOrderByEndDateDescAfter(
+                    Performance.Status.COMPLETED, cursor.getKeyAsDate(), cursor.getId(), limit);
+        }
+        
+        return CursorDto.slice(performances, pageSize,
+                performance -> CursorDto.Cursor.encode(performance.getEndDate(), performance.getId()),
+                this::convertToPerformanceSummary);
     }
     
     @Transactional
@@ -120,8 +185,12 @@ public class PerformanceService {
         if (request.getStatus() != null) {
             performance.setStatus(request.getStatus());
         }
+        performance.refreshStatus(LocalDate.now(clock));
         
         Performance updatedPerformance = performanceRepository.save(performance);
+        performanceSuggestIndex.indexAfterCommit(updatedPerformance);
+        performanceCache.evictAfterCommit(performanceId);
+        performanceStatusSnapshot.rebuildAfterCommit();
         
         return convertToPerformanceResponse(updatedPerformance);
     }
@@ -133,6 +202,25 @@ public class PerformanceService {
         }
         
         performanceRepository.deleteById(performanceId);
+        performanceSuggestIndex.removeAfterCommit(performanceId);
+        performanceCache.evictAfterCommit(performanceId);
+        performanceStatusSnapshot.rebuildAfterCommit();
+    }
+    
+    private Page<PerformanceDto.PerformanceSummary> toPage(List<Long> ids, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), ids.size());
+        int to = Math.min(from + pageable.getPageSize(), ids.size());
+        List<Long> pageIds = ids.subList(from, to);
+        
+        Map<Long, Performance> performances = performanceRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Performance::getId, Function.identity()));
+        
+        List<PerformanceDto.PerformanceSummary> content = pageIds.stream()
+                .map(performances::get)
+                .filter(Objects::nonNull)
+                .map(this::convertToPerformanceSummary)
+                .toList();
+        return new PageImpl<>(content, pageable, ids.size());
     }
     
     private PerformanceDto.PerformanceResponse convertToPerformanceResponse(Performance performance) {
@@ -165,4 +253,15 @@ public class PerformanceService {
                 .status(performance.getStatus())
                 .build();
     }
+    
+    private PerformanceDto.Suggestion convertToSuggestion(Performance performance) {
+        return PerformanceDto.Suggestion.builder()
+                .id(performance.getId())
+                .title(performance.getTitle())
+                .posterImage(performance.getPosterImage())
+                .genre(performance.getGenre())
+                .venue(performance.getVenue())
+                .status(performance.getStatus())
+                .build();
+    }
 }
@@ -0,0 +1,82 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.PerformanceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+
+// 날짜가 바뀔 때 공연 상태(예정 → 진행 중 → 종료)를 일괄 UPDATE로 전환
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PerformanceStatusScheduler {
+
+    static final String LOCK_NAME = "performance-status-transition";
+
+    private final PerformanceRepository performanceRepository;
+    private final SchedulerLockService schedulerLockService;
+    private final PerformanceCache performanceCache;
+    private final PerformanceStatusSnapshot performanceStatusSnapshot;
+    private final Clock clock;
+
+    @Value("${app.performance.status-transition.lock-lease-ms:300000}")
+    private long lockLeaseMillis;
+
+    @Value("${app.performance.status-transition.lock-poll-ms:1000}")
+    private long lockPollMillis;
+
+    // 서버가 내려가 있던 사이에 지난 날짜도 기동 직후에 따라잡기
+    // (리스너가 값을 반환하면 새 이벤트로 발행되므로 void로 감쌈)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        transition();
+    }
+
+    // 전환한 공연 수를 반환
+    @Scheduled(cron = "${app.performance.status-transition.cron:0 0 0 * * *}")
+    public int transition() {
+        int changed = 0;
+        if (schedulerLockService.tryAcquire(LOCK_NAME, Duration.ofMillis(lockLeaseMillis))) {
+            try {
+                LocalDate today = LocalDate.now(clock);
+                changed = performanceRepository.markUpcoming(today)
+                        + performanceRepository.markOngoing(today)
+                        + performanceRepository.markCompleted(today);
+                if (changed > 0) {
+                    log.info("Transitioned status of {} performances for {}", changed, today);
+                }
+            } finally {
+                schedulerLockService.release(LOCK_NAME);
+            }
+        } else {
+            log.debug("Performance status transition is running on another instance");
+            awaitRelease();
+        }
+
+        // 캐시와 스냅샷은 서버마다 있으므로 잠금을 못 잡아도 다시 읽기
+        performanceCache.clear();
+        performanceStatusSnapshot.rebuild();
+        return changed;
+    }
+
+    // 잠금을 가진 서버가 UPDATE를 끝낼 때까지 기다림 (바로 다시 읽으면 전날 상태로 스냅샷이 만들어짐)
+    // 그 서버가 죽어도 임대 시간이 지나면 잠금이 풀린 것으로 보므로 최대 lock-lease-ms까지만 기다림
+    private void awaitRelease() {
+        while (schedulerLockService.isHeld(LOCK_NAME)) {
+            try {
+                Thread.sleep(lockPollMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
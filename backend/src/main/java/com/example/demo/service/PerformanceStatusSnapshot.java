@@ -0,0 +1,55 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Performance;
+import com.example.demo.repository.PerformanceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 예정/진행 중 공연 id 목록 (상태 전환 스케줄러와 공연 변경 시 다시 계산)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PerformanceStatusSnapshot {
+
+    private final PerformanceRepository performanceRepository;
+
+    private volatile Snapshot snapshot;
+
+    // 예정: 시작일 오름차순
+    public List<Long> getUpcomingIds() {
+        return current().upcomingIds();
+    }
+
+    // 진행 중: 종료일 오름차순 (곧 끝나는 공연 먼저)
+    public List<Long> getOngoingIds() {
+        return current().ongoingIds();
+    }
+
+    public synchronized void rebuild() {
+        snapshot = new Snapshot(
+                List.copyOf(performanceRepository.findIdsByStatusOrderByStartDate(Performance.Status.UPCOMING)),
+                List.copyOf(performanceRepository.findIdsByStatusOrderByEndDate(Performance.Status.ONGOING)));
+        log.debug("Rebuilt performance status snapshot: {} upcoming, {} ongoing",
+                snapshot.upcomingIds().size(), snapshot.ongoingIds().size());
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 다시 계산
+    public void rebuildAfterCommit() {
+        TransactionCallbacks.afterCommit(this::rebuild);
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            rebuild();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    private record Snapshot(List<Long> upcomingIds, List<Long> ongoingIds) {
+    }
+}
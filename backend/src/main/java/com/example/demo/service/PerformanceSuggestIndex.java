@@ -0,0 +1,410 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.PerformanceDto;
+import com.example.demo.entity.Performance;
+import com.example.demo.repository.PerformanceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 공연 제목/장르/공연장 자동완성 색인 (한글은 자모 단위로 분해해서 입력 중인 글자도 접두어로 일치)
+@Slf4j
+@Component
+public class PerformanceSuggestIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int TITLE_WORD_WEIGHT = 2;
+    private static final int ATTRIBUTE_WEIGHT = 1;
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ",
+            "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 가중치 내림차순, 같으면 최근 등록(id 큰 순)
+    private static final Comparator<Ranked> RANKING =
+            Comparator.comparingInt(Ranked::weight).reversed()
+                    .thenComparing(Ranked::performanceId, Comparator.reverseOrder());
+
+    private final PerformanceRepository performanceRepository;
+    private final int maxResults;
+    private final int rebuildBatchSize;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 자모 분해된 키로 만든 트라이 (노드마다 하위 키 전체의 상위 maxResults개를 유지)
+    private final Node root = new Node('\0');
+    private final Map<Long, IndexedPerformance> performances = new HashMap<>();
+
+    private volatile boolean ready;
+
+    public PerformanceSuggestIndex(PerformanceRepository performanceRepository,
+                                   @Value("${app.performance.suggest.max-results:10}") int maxResults,
+                                   @Value("${app.performance.suggest.rebuild-batch-size:1000}") int rebuildBatchSize) {
+        this.performanceRepository = performanceRepository;
+        this.maxResults = maxResults;
+        this.rebuildBatchSize = rebuildBatchSize;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Long lastId = 0L;
+        while (true) {
+            List<Performance> batch = performanceRepository.findAllAfterId(lastId, PageRequest.of(0, rebuildBatchSize));
+            batch.forEach(this::index);
+            if (batch.size() < rebuildBatchSize) {
+                break;
+            }
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+        ready = true;
+        log.info("Built performance suggest index with {} performances", size());
+    }
+
+    public void index(Performance performance) {
+        PerformanceDto.Suggestion suggestion = PerformanceDto.Suggestion.builder()
+                .id(performance.getId())
+                .title(performance.getTitle())
+                .posterImage(performance.getPosterImage())
+                .genre(performance.getGenre())
+                .venue(performance.getVenue())
+                .status(performance.getStatus())
+                .build();
+
+        Map<String, Integer> weightedKeys = new HashMap<>();
+        addKeys(weightedKeys, performance.getTitle(), TITLE_WEIGHT, TITLE_WORD_WEIGHT);
+        addKeys(weightedKeys, performance.getGenre(), ATTRIBUTE_WEIGHT, ATTRIBUTE_WEIGHT);
+        addKeys(weightedKeys, performance.getVenue(), ATTRIBUTE_WEIGHT, ATTRIBUTE_WEIGHT);
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(performance.getId());
+            performances.put(performance.getId(), new IndexedPerformance(suggestion, weightedKeys));
+            weightedKeys.forEach((key, weight) -> addKey(key, new Ranked(performance.getId(), weight)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long performanceId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(performanceId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋된 경우에만 반영
+    public void indexAfterCommit(Performance performance) {
+        TransactionCallbacks.afterCommit(() -> index(performance));
+    }
+
+    public void removeAfterCommit(Long performanceId) {
+        TransactionCallbacks.afterCommit(() -> remove(performanceId));
+    }
+
+    public List<PerformanceDto.Suggestion> suggest(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        int resultSize = Math.min(Math.max(limit, 1), maxResults);
+
+        lock.readLock().lock();
+        try {
+            Node node = findNode(prefix);
+            if (node == null) {
+                return List.of();
+            }
+
+            Ranked[] ranked = node.top;
+            List<PerformanceDto.Suggestion> suggestions = new ArrayList<>(Math.min(resultSize, ranked.length));
+            for (int i = 0; i < ranked.length && i < resultSize; i++) {
+                suggestions.add(performances.get(ranked[i].performanceId()).suggestion());
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return performances.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 소문자/공백 정리 후 한글 음절을 기본 자모로 분해 ("과" -> "ㄱㅗㅏ", "닭" -> "ㄷㅏㄹㄱ")
+    // NFKC는 입력 중인 호환 자모(ㄹ)를 조합형 자모로 바꾸므로 NFC 사용
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT).trim();
+        StringBuilder builder = new StringBuilder(normalized.length() * 3);
+        boolean pendingSpace = false;
+
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                pendingSpace = builder.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                builder.append(' ');
+                pendingSpace = false;
+            }
+            if (c >= '가' && c <= '힣') {
+                int offset = c - '가';
+                builder.append(CHOSEONG.charAt(offset / 588))
+                        .append(JUNGSEONG[(offset % 588) / 28])
+                        .append(JONGSEONG[offset % 28]);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    // 전체 문자열과 각 단어 시작 위치부터의 문자열을 키로 사용
+    private void addKeys(Map<String, Integer> weightedKeys, String text, int fullWeight, int wordWeight) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        weightedKeys.merge(normalized, fullWeight, Math::max);
+        for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+            weightedKeys.merge(normalized.substring(i + 1), wordWeight, Math::max);
+        }
+    }
+
+    private void addKey(String key, Ranked entry) {
+        Node node = root;
+        node.offer(entry, maxResults);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.childOrCreate(key.charAt(i));
+            node.offer(entry, maxResults);
+        }
+        node.addTerminal(entry);
+    }
+
+    private void removeInternal(Long performanceId) {
+        IndexedPerformance indexed = performances.remove(performanceId);
+        if (indexed == null) {
+            return;
+        }
+
+        List<Node[]> paths = new ArrayList<>();
+        for (String key : indexed.keys().keySet()) {
+            Node[] path = findPath(key);
+            if (path != null) {
+                path[path.length - 1].removeTerminal(performanceId);
+                paths.add(path);
+            }
+        }
+
+        // 아래쪽 노드부터 상위 목록을 다시 계산하고, 비게 된 노드는 떼어냄
+        for (Node[] path : paths) {
+            for (int depth = path.length - 1; depth >= 0; depth--) {
+                Node node = path[depth];
+                if (node.contains(performanceId)) {
+                    node.recomputeTop(maxResults);
+                }
+                if (depth > 0 && node.isEmpty()) {
+                    path[depth - 1].removeChild(node);
+                }
+            }
+        }
+    }
+
+    private Node findNode(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.child(prefix.charAt(i));
+        }
+        return node;
+    }
+
+    // root부터 key 마지막 글자까지의 노드 (중간에 끊기면 null)
+    private Node[] findPath(String key) {
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            path[i + 1] = path[i].child(key.charAt(i));
+            if (path[i + 1] == null) {
+                return null;
+            }
+        }
+        return path;
+    }
+
+    private record Ranked(Long performanceId, int weight) {
+    }
+
+    private static final class Node {
+
+        private static final char[] NO_LABELS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final Ranked[] NO_ENTRIES = new Ranked[0];
+
+        private final char label;
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+
+        // 이 노드에서 끝나는 키를 가진 공연 (상위 목록을 다시 계산할 때 사용)
+        private List<Ranked> terminals;
+
+        private Ranked[] top = NO_ENTRIES;
+
+        Node(char label) {
+            this.label = label;
+        }
+
+        Node child(char c) {
+            int index = Arrays.binarySearch(labels, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node childOrCreate(char c) {
+            int index = Arrays.binarySearch(labels, c);
+            if (index >= 0) {
+                return children[index];
+            }
+
+            int position = -index - 1;
+            Node child = new Node(c);
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, position);
+            System.arraycopy(children, 0, newChildren, 0, position);
+            newLabels[position] = c;
+            newChildren[position] = child;
+            System.arraycopy(labels, position, newLabels, position + 1, labels.length - position);
+            System.arraycopy(children, position, newChildren, position + 1, children.length - position);
+            labels = newLabels;
+            children = newChildren;
+            return child;
+        }
+
+        void removeChild(Node child) {
+            int index = Arrays.binarySearch(labels, child.label);
+            if (index < 0 || children[index] != child) {
+                return;
+            }
+
+            char[] newLabels = new char[labels.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(labels, 0, newLabels, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(labels, index + 1, newLabels, index, labels.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            labels = newLabels;
+            children = newChildren;
+        }
+
+        boolean isEmpty() {
+            return children.length == 0 && (terminals == null || terminals.isEmpty());
+        }
+
+        void addTerminal(Ranked entry) {
+            if (terminals == null) {
+                terminals = new ArrayList<>(1);
+            }
+            terminals.add(entry);
+        }
+
+        void removeTerminal(Long performanceId) {
+            if (terminals != null) {
+                terminals.removeIf(entry -> entry.performanceId().equals(performanceId));
+            }
+        }
+
+        boolean contains(Long performanceId) {
+            for (Ranked entry : top) {
+                if (entry.performanceId().equals(performanceId)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void offer(Ranked entry, int limit) {
+            top = merge(top, entry, limit);
+        }
+
+        // 이 노드의 상위 목록 = (이 노드에서 끝나는 키 + 자식 노드들의 상위 목록) 중 상위 limit개
+        void recomputeTop(int limit) {
+            Ranked[] merged = NO_ENTRIES;
+            if (terminals != null) {
+                for (Ranked entry : terminals) {
+                    merged = merge(merged, entry, limit);
+                }
+            }
+            for (Node child : children) {
+                for (Ranked entry : child.top) {
+                    merged = merge(merged, entry, limit);
+                }
+            }
+            top = merged;
+        }
+
+        // 같은 공연은 가중치가 높은 쪽 하나만 남기고 순위순으로 limit개까지 유지
+        private static Ranked[] merge(Ranked[] entries, Ranked entry, int limit) {
+            for (int i = 0; i < entries.length; i++) {
+                if (entries[i].performanceId().equals(entry.performanceId())) {
+                    if (entries[i].weight() >= entry.weight()) {
+                        return entries;
+                    }
+                    Ranked[] without = new Ranked[entries.length - 1];
+                    System.arraycopy(entries, 0, without, 0, i);
+                    System.arraycopy(entries, i + 1, without, i, entries.length - i - 1);
+                    entries = without;
+                    break;
+                }
+            }
+
+            int position = Arrays.binarySearch(entries, entry, RANKING);
+            position = position < 0 ? -position - 1 : position;
+            if (position >= limit) {
+                return entries;
+            }
+
+            int size = Math.min(entries.length + 1, limit);
+            Ranked[] merged = new Ranked[size];
+            System.arraycopy(entries, 0, merged, 0, position);
+            merged[position] = entry;
+            System.arraycopy(entries, position, merged, position + 1, size - position - 1);
+            return merged;
+        }
+    }
+
+    private record IndexedPerformance(PerformanceDto.Suggestion suggestion, Map<String, Integer> keys) {
+    }
+}
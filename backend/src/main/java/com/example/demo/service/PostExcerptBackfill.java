@@ -0,0 +1,64 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.PostRepository;
+import com.example.demo.repository.PostSearchDocument;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// excerpt 컬럼이 생기기 전에 작성된 게시글의 요약을 시작 시 id 구간 단위로 채움 (새 글은 작성/수정 시 계산)
+@Slf4j
+@Component
+public class PostExcerptBackfill {
+
+    private final PostRepository postRepository;
+    private final PostExcerptGenerator postExcerptGenerator;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public PostExcerptBackfill(PostRepository postRepository,
+                               PostExcerptGenerator postExcerptGenerator,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${app.post.excerpt-backfill-batch-size:500}") int batchSize) {
+        this.postRepository = postRepository;
+        this.postExcerptGenerator = postExcerptGenerator;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        backfill();
+    }
+
+    // 채운 게시글 수를 반환 (그사이 수정되어 이미 요약이 생긴 게시글은 제외)
+    public int backfill() {
+        AtomicInteger filled = new AtomicInteger();
+        Long lastId = 0L;
+        while (true) {
+            Long after = lastId;
+            List<PostSearchDocument> posts = transactionTemplate.execute(status -> {
+                List<PostSearchDocument> batch =
+                        postRepository.findWithoutExcerptAfter(after, PageRequest.of(0, batchSize));
+                batch.forEach(post -> filled.addAndGet(
+                        postRepository.updateExcerpt(post.getId(), postExcerptGenerator.excerpt(post.getContent()))));
+                return batch;
+            });
+            if (posts.size() < batchSize) {
+                break;
+            }
+            lastId = posts.get(posts.size() - 1).getId();
+        }
+        if (filled.get() > 0) {
+            log.info("Filled excerpts for {} posts", filled.get());
+        }
+        return filled.get();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.demo.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Pattern;
+
+// 목록에 보여 줄 게시글 요약 (마크다운/HTML 표시를 걷어 낸 본문 앞부분)
+@Component
+public class PostExcerptGenerator {
+
+    // posts.excerpt 컬럼 길이 (말줄임표 포함)
+    public static final int MAX_LENGTH = 300;
+
+    private static final Pattern CODE_FENCE = Pattern.compile("(?m)^\\s*(```|~~~).*$");
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern IMAGE = Pattern.compile("!\\[([^\\]]*)]\\([^)]*\\)");
+    private static final Pattern LINK = Pattern.compile("\\[([^\\]]*)]\\([^)]*\\)");
+    private static final Pattern LINE_MARKER = Pattern.compile("(?m)^\\s*(#{1,6}|>+|[-*+]|\\d+[.)])\\s+");
+    private static final Pattern HORIZONTAL_RULE = Pattern.compile("(?m)^\\s*([-*_]\\s*){3,}$");
+    private static final Pattern EMPHASIS = Pattern.compile("[*_~`]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final int length;
+
+    public PostExcerptGenerator(@Value("${app.post.excerpt-length:200}") int length) {
+        this.length = Math.min(length, MAX_LENGTH - 1);
+    }
+
+    public String excerpt(String content) {
+        if (content == null) {
+            return "";
+        }
+        String text = CODE_FENCE.matcher(content).replaceAll(" ");
+        text = HTML_TAG.matcher(text).replaceAll(" ");
+        text = IMAGE.matcher(text).replaceAll("$1");
+        text = LINK.matcher(text).replaceAll("$1");
+        text = HORIZONTAL_RULE.matcher(text).replaceAll(" ");
+        text = LINE_MARKER.matcher(text).replaceAll("");
+        text = EMPHASIS.matcher(text).replaceAll("");
+        text = decodeEntities(text);
+        text = WHITESPACE.matcher(text).replaceAll(" ").strip();
+
+        // 코드 포인트 기준으로 자르되, 컬럼 길이를 UTF-16 단위로 재는 DB도 있으므로 한 번 더 제한
+        int codePoints = text.codePointCount(0, text.length());
+        if (codePoints <= length && text.length() <= MAX_LENGTH) {
+            return text;
+        }
+        int end = Math.min(text.offsetByCodePoints(0, Math.min(codePoints, length)), MAX_LENGTH - 1);
+        if (Character.isLowSurrogate(text.charAt(end))) {
+            end--;
+        }
+        return text.substring(0, end).stripTrailing() + "…";
+    }
+
+    private String decodeEntities(String text) {
+        return text.replace("&nbsp;", " ")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&#39;", "'")
+                .replace("&amp;", "&");
+    }
+}
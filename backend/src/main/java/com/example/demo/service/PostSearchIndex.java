@@ -0,0 +1,318 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.PostRepository;
+import com.example.demo.repository.PostSearchDocument;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+// 게시글 제목/본문에 대한 메모리 역색인 (2-gram 토큰, BM25 점수)
+@Slf4j
+@Component
+public class PostSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // 제목에 나온 토큰은 본문보다 가중치를 높게
+    private static final int TITLE_WEIGHT = 3;
+
+    // 점수 내림차순, 같은 점수는 id 내림차순
+    private static final Comparator<SearchHit> RANKING =
+            Comparator.comparingDouble(SearchHit::score).reversed()
+                    .thenComparing(SearchHit::postId, Comparator.reverseOrder());
+
+    private final PostRepository postRepository;
+    private final int rebuildBatchSize;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private IndexData data = new IndexData();
+
+    // 재구성 중에 들어온 변경 (새 색인으로 교체하기 전에 다시 적용)
+    private List<Consumer<IndexData>> journal;
+
+    private volatile boolean ready;
+
+    public PostSearchIndex(PostRepository postRepository,
+                           @Value("${app.search.rebuild-batch-size:500}") int rebuildBatchSize) {
+        this.postRepository = postRepository;
+        this.rebuildBatchSize = rebuildBatchSize;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            journal = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        IndexData rebuilt = new IndexData();
+        try {
+            Long lastId = 0L;
+            while (true) {
+                List<PostSearchDocument> documents =
+                        postRepository.findSearchDocumentsAfter(lastId, PageRequest.of(0, rebuildBatchSize));
+                for (PostSearchDocument document : documents) {
+                    rebuilt.put(document.getId(), document.getTitle(), document.getContent());
+                }
+                if (documents.size() < rebuildBatchSize) {
+                    break;
+                }
+                lastId = documents.get(documents.size() - 1).getId();
+            }
+        } catch (RuntimeException ex) {
+            lock.writeLock().lock();
+            try {
+                journal = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw ex;
+        }
+
+        lock.writeLock().lock();
+        try {
+            journal.forEach(change -> change.accept(rebuilt));
+            journal = null;
+            data = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Rebuilt post search index with {} posts", rebuilt.size());
+    }
+
+    public void index(Long postId, String title, String content) {
+        apply(index -> index.put(postId, title, content));
+    }
+
+    public void remove(Long postId) {
+        apply(index -> index.remove(postId));
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋된 경우에만 색인에 반영
+    public void indexAfterCommit(Long postId, String title, String content) {
+        TransactionCallbacks.afterCommit(() -> index(postId, title, content));
+    }
+
+    public void removeAfterCommit(Long postId) {
+        TransactionCallbacks.afterCommit(() -> remove(postId));
+    }
+
+    // offset 기반 페이지 (전체 일치 건수 포함)
+    public SearchResult search(String query, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = data.score(queryTerms(query));
+            List<SearchHit> top = topHits(scores, null, null, offset + limit);
+            List<SearchHit> page = offset < top.size() ? top.subList(offset, top.size()) : List.of();
+            return new SearchResult(page, scores.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // (점수, id) 커서 다음부터 limit개
+    public List<SearchHit> searchAfter(String query, Double afterScore, Long afterId, int limit) {
+        lock.readLock().lock();
+        try {
+            return topHits(data.score(queryTerms(query)), afterScore, afterId, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return data.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 소문자/NFKC 정규화 후 단어마다 2-gram으로 분해 (한 글자 단어는 그대로)
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+
+        int wordStart = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && wordStart < 0) {
+                wordStart = i;
+            } else if (!wordChar && wordStart >= 0) {
+                if (i - wordStart == 1) {
+                    tokens.add(normalized.substring(wordStart, i));
+                }
+                for (int j = wordStart; j + 2 <= i; j++) {
+                    tokens.add(normalized.substring(j, j + 2));
+                }
+                wordStart = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private List<String> queryTerms(String query) {
+        return new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+    }
+
+    private List<SearchHit> topHits(Map<Long, Double> scores, Double afterScore, Long afterId, int limit) {
+        if (limit <= 0 || scores.isEmpty()) {
+            return List.of();
+        }
+        SearchHit after = afterScore != null && afterId != null ? new SearchHit(afterId, afterScore) : null;
+
+        // 순위가 가장 낮은 항목이 맨 앞에 오도록 해서 limit개만 유지
+        PriorityQueue<SearchHit> heap = new PriorityQueue<>(RANKING.reversed());
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            SearchHit hit = new SearchHit(entry.getKey(), entry.getValue());
+            if (after != null && RANKING.compare(hit, after) <= 0) {
+                continue;
+            }
+            heap.offer(hit);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<SearchHit> hits = new ArrayList<>(heap);
+        hits.sort(RANKING);
+        return hits;
+    }
+
+    private void apply(Consumer<IndexData> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(data);
+            if (journal != null) {
+                journal.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public record SearchHit(Long postId, double score) {
+    }
+
+    public record SearchResult(List<SearchHit> hits, int total) {
+    }
+
+    private static class IndexData {
+
+        // 토큰 -> (게시글 id -> 가중 빈도)
+        private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+        private final Map<Long, IndexedPost> posts = new HashMap<>();
+        private long totalLength;
+
+        void put(Long postId, String title, String content) {
+            remove(postId);
+
+            Map<String, Integer> frequencies = new HashMap<>();
+            for (String token : tokenize(title)) {
+                frequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+            }
+            for (String token : tokenize(content)) {
+                frequencies.merge(token, 1, Integer::sum);
+            }
+
+            int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+            frequencies.forEach((token, frequency) ->
+                    postings.computeIfAbsent(token, key -> new HashMap<>()).put(postId, frequency));
+            posts.put(postId, new IndexedPost(frequencies.keySet().toArray(String[]::new), length));
+            totalLength += length;
+        }
+
+        void remove(Long postId) {
+            IndexedPost post = posts.remove(postId);
+            if (post == null) {
+                return;
+            }
+            for (String token : post.tokens()) {
+                Map<Long, Integer> posting = postings.get(token);
+                if (posting != null) {
+                    posting.remove(postId);
+                    if (posting.isEmpty()) {
+                        postings.remove(token);
+                    }
+                }
+            }
+            totalLength -= post.length();
+        }
+
+        int size() {
+            return posts.size();
+        }
+
+        // 모든 토큰을 포함하는 게시글만 BM25 점수 합산
+        Map<Long, Double> score(List<String> terms) {
+            if (terms.isEmpty() || posts.isEmpty()) {
+                return Map.of();
+            }
+
+            List<Map<Long, Integer>> matched = new ArrayList<>();
+            for (String term : terms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    return Map.of();
+                }
+                matched.add(posting);
+            }
+            matched.sort(Comparator.comparingInt(Map::size));
+
+            int postCount = posts.size();
+            double averageLength = (double) totalLength / postCount;
+            double[] idf = new double[matched.size()];
+            for (int i = 0; i < matched.size(); i++) {
+                int df = matched.get(i).size();
+                idf[i] = Math.log(1 + (postCount - df + 0.5) / (df + 0.5));
+            }
+
+            Map<Long, Double> scores = new HashMap<>();
+            candidates:
+            for (Long postId : matched.get(0).keySet()) {
+                double lengthNorm = K1 * (1 - B + B * posts.get(postId).length() / averageLength);
+                double score = 0;
+                for (int i = 0; i < matched.size(); i++) {
+                    Integer frequency = matched.get(i).get(postId);
+                    if (frequency == null) {
+                        continue candidates;
+                    }
+                    score += idf[i] * frequency * (K1 + 1) / (frequency + lengthNorm);
+                }
+                scores.put(postId, score);
+            }
+            return scores;
+        }
+    }
+
+    private record IndexedPost(String[] tokens, int length) {
+    }
+}
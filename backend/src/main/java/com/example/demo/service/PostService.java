@@ -1,19 +1,27 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.CursorDto;
 import com.example.demo.dto.PostDto;
 import com.example.demo.entity.Post;
 import com.example.demo.entity.User;
 import com.example.demo.entity.Performance;
+import com.example.demo.exception.IndexNotReadyException;
 import com.example.demo.repository.PostRepository;
 import com.example.demo.repository.UserRepository;
 import com.example.demo.repository.PerformanceRepository;
+import com.example.demo.repository.PostSummaryView;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,6 +31,12 @@ public class PostService {
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final PerformanceRepository performanceRepository;
+    private final ViewCountService viewCountService;
+    private final PostSearchIndex postSearchIndex;
+    private final PerformanceService performanceService;
+    private final TrendingPostIndex trendingPostIndex;
+    private final PostWindowCache postWindowCache;
+    private final PostExcerptGenerator postExcerptGenerator;
     
     @Transactional
     public PostDto.PostResponse createPost(Long userId, PostDto.CreateRequest request) {
@@ -35,6 +49,7 @@ public class PostService {
         Post post = Post.builder()
                 .title(request.getTitle())
                 .content(request.getContent())
+                .excerpt(postExcerptGenerator.excerpt(request.getContent()))
                 .user(user)
                 .performance(performance)
                 .postType(request.getPostType() != null ? request.getPostType() : Post.PostType.GENERAL)
@@ -42,6 +57,9 @@ public class PostService {
                 .build();
         
         Post savedPost = postRepository.save(post);
+        postSearchIndex.indexAfterCommit(savedPost.getId(), savedPost.getTitle(), savedPost.getContent());
+        trendingPostIndex.onPostCreated(savedPost.getId(), performance.getId(), savedPost.getCreatedAt());
+        postWindowCache.onPostCreated(performance.getId(), convertToPostSummary(savedPost));
         
         return convertToPostResponse(savedPost);
     }
@@ -50,58 +68,140 @@ public class PostService {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
         
-        // 조회수 증가
-        post.setViewCount(post.getViewCount() + 1);
-        postRepository.save(post);
+        // 조회수 증가 (주기적으로 DB에 일괄 반영)
+        viewCountService.increment(postId);
+        trendingPostIndex.onView(postId);
         
         return convertToPostResponse(post);
     }
     
     public Page<PostDto.PostSummary> getPostsByPerformance(Long performanceId, Pageable pageable) {
-        Page<Post> posts = postRepository.findByPerformanceId(performanceId, pageable);
+        Page<PostSummaryView> posts = postRepository.findByPerformanceId(performanceId, pageable);
         
         return posts.map(this::convertToPostSummary);
     }
     
+    public CursorDto.SliceResponse<PostDto.PostSummary> getPostsByPerformanceWithCursor(
+            Long performanceId, String after, int size, String sort) {
+        int pageSize = CursorDto.clampSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        CursorDto.Cursor cursor = after != null ? CursorDto.Cursor.decode(after) : null;
+        
+        // 좋아요순: (like_count, id), 최신순: (created_at, id) 기준으로 이어서 조회
+        if ("likes".equalsIgnoreCase(sort)) {
+            List<PostSummaryView> posts = cursor == null
+                    ? postRepository.findTopSummaries(performanceId, limit)
+                    : postRepository.findTopSummariesAfter(performanceId, cursor.getKeyAsInteger(), cursor.getId(), limit);
+            
+            return CursorDto.slice(posts, pageSize,
+                    post -> CursorDto.Cursor.encode(post.getLikeCount(), post.getId()),
+                    this::convertToPostSummary);
+        }
+        
+        List<PostSummaryView> posts = cursor == null
+                ? postRepository.findLatestSummaries(performanceId, limit)
+                : postRepository.findLatestSummariesAfter(performanceId, cursor.getKeyAsDateTime(), cursor.getId(), limit);
+        
+        return CursorDto.slice(posts, pageSize,
+                post -> CursorDto.Cursor.encode(post.getCreatedAt(), post.getId()),
+                this::convertToPostSummary);
+    }
+    
     public Page<PostDto.PostSummary> getPostsByPerformanceAndType(Long performanceId, Post.PostType postType, Pageable pageable) {
-        Page<Post> posts = postRepository.findByPerformanceIdAndPostType(performanceId, postType, pageable);
+        Page<PostSummaryView> posts = postRepository.findByPerformanceIdAndPostType(performanceId, postType, pageable);
         
         return posts.map(this::convertToPostSummary);
     }
     
     public Page<PostDto.PostSummary> getPostsByPerformanceAndSpoiler(Long performanceId, Boolean isSpoiler, Pageable pageable) {
-        Page<Post> posts = postRepository.findByPerformanceIdAndIsSpoiler(performanceId, isSpoiler, pageable);
+        Page<PostSummaryView> posts = postRepository.findByPerformanceIdAndIsSpoiler(performanceId, isSpoiler, pageable);
         
         return posts.map(this::convertToPostSummary);
     }
     
+    // 위젯용 상위 N개 (DB에서 N개만 읽고 공연별로 캐시)
     public List<PostDto.PostSummary> getLatestPostsByPerformance(Long performanceId) {
-        List<Post> posts = postRepository.findLatestPostsByPerformance(performanceId);
-        
-        return posts.stream()
-                .map(this::convertToPostSummary)
-                .toList();
+        return postWindowCache.latest(performanceId, id ->
+                postRepository.findLatestSummaries(id, PageRequest.of(0, postWindowCache.windowSize())).stream()
+                        .map(this::convertToPostSummary)
+                        .toList());
     }
     
     public List<PostDto.PostSummary> getTopPostsByPerformance(Long performanceId) {
-        List<Post> posts = postRepository.findTopPostsByPerformance(performanceId);
+        return postWindowCache.top(performanceId, id ->
+                postRepository.findTopSummaries(id, PageRequest.of(0, postWindowCache.windowSize())).stream()
+                        .map(this::convertToPostSummary)
+                        .toList());
+    }
+    
+    // 시간 감쇠 점수 기준 인기글 (performanceId가 없으면 전체)
+    public List<PostDto.PostSummary> getTrendingPosts(Long performanceId, int limit) {
+        if (!trendingPostIndex.isReady()) {
+            throw new IndexNotReadyException("인기글 순위를 준비 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+        
+        List<Long> postIds = trendingPostIndex.top(performanceId, CursorDto.clampSize(limit)).stream()
+                .map(TrendingPostIndex.TrendingPost::postId)
+                .toList();
+        Map<Long, PostSummaryView> views = findSummaryViews(postIds);
         
-        return posts.stream()
+        return postIds.stream()
+                .map(views::get)
+                .filter(view -> view != null)
                 .map(this::convertToPostSummary)
                 .toList();
     }
     
     public Page<PostDto.PostSummary> getPostsByUser(Long userId, Pageable pageable) {
-        Page<Post> posts = postRepository.findByUserId(userId, pageable);
+        Page<PostSummaryView> posts = postRepository.findByUserId(userId, pageable);
         
         return posts.map(this::convertToPostSummary);
     }
     
     public Page<PostDto.PostSummary> searchPosts(String keyword, Pageable pageable) {
-        Page<Post> posts = postRepository.findByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(
-                keyword, keyword, pageable);
+        // 시작 직후 검색 색인이 만들어지기 전에는 기존 LIKE 검색 사용
+        if (!postSearchIndex.isReady()) {
+            Page<PostSummaryView> posts = postRepository.findByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(
+                    keyword, keyword, pageable);
+            
+            return posts.map(this::convertToPostSummary);
+        }
         
-        return posts.map(this::convertToPostSummary);
+        PostSearchIndex.SearchResult result =
+                postSearchIndex.search(keyword, (int) pageable.getOffset(), pageable.getPageSize());
+        Map<Long, PostSummaryView> views = findSummaryViews(postIdsOf(result.hits()));
+        
+        List<PostDto.PostSummary> content = result.hits().stream()
+                .map(hit -> views.get(hit.postId()))
+                .filter(view -> view != null)
+                .map(this::convertToPostSummary)
+                .toList();
+        return new PageImpl<>(content, pageable, result.total());
+    }
+    
+    // 관련도 순 검색 결과를 (점수, id) 커서로 이어서 조회
+    public CursorDto.SliceResponse<PostDto.PostSummary> searchPostsWithCursor(String keyword, String after, int size) {
+        if (!postSearchIndex.isReady()) {
+            throw new IndexNotReadyException("검색 색인을 준비 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+        
+        int pageSize = CursorDto.clampSize(size);
+        CursorDto.Cursor cursor = after != null ? CursorDto.Cursor.decode(after) : null;
+        
+        List<PostSearchIndex.SearchHit> hits = postSearchIndex.searchAfter(keyword,
+                cursor != null ? cursor.getKeyAsDouble() : null,
+                cursor != null ? cursor.getId() : null,
+                pageSize + 1);
+        Map<Long, PostSummaryView> views = findSummaryViews(postIdsOf(hits));
+        
+        // 색인 반영 직전에 삭제된 게시글은 제외
+        List<PostSearchIndex.SearchHit> found = hits.stream()
+                .filter(hit -> views.containsKey(hit.postId()))
+                .toList();
+        
+        return CursorDto.slice(found, pageSize,
+                hit -> CursorDto.Cursor.encode(hit.score(), hit.postId()),
+                hit -> convertToPostSummary(views.get(hit.postId())));
     }
     
     @Transactional
@@ -119,6 +219,7 @@ public class PostService {
         }
         if (request.getContent() != null) {
             post.setContent(request.getContent());
+            post.setExcerpt(postExcerptGenerator.excerpt(request.getContent()));
         }
         if (request.getPostType() != null) {
             post.setPostType(request.getPostType());
@@ -128,6 +229,10 @@ public class PostService {
         }
         
         Post updatedPost = postRepository.save(post);
+        if (request.getTitle() != null || request.getContent() != null) {
+            postSearchIndex.indexAfterCommit(updatedPost.getId(), updatedPost.getTitle(), updatedPost.getContent());
+        }
+        postWindowCache.onPostUpdated(updatedPost.getPerformance().getId(), convertToPostSummary(updatedPost));
         
         return convertToPostResponse(updatedPost);
     }
@@ -143,6 +248,22 @@ public class PostService {
         }
         
         postRepository.deleteById(postId);
+        postSearchIndex.removeAfterCommit(postId);
+        trendingPostIndex.onPostDeleted(postId);
+        postWindowCache.onPostDeleted(post.getPerformance().getId(), postId);
+    }
+    
+    private Map<Long, PostSummaryView> findSummaryViews(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        return postRepository.findSummariesByIdIn(postIds)
+                .stream()
+                .collect(Collectors.toMap(PostSummaryView::getId, Function.identity()));
+    }
+    
+    private List<Long> postIdsOf(List<PostSearchIndex.SearchHit> hits) {
+        return hits.stream().map(PostSearchIndex.SearchHit::postId).toList();
     }
     
     private PostDto.PostResponse convertToPostResponse(Post post) {
@@ -151,13 +272,13 @@ public class PostService {
                 .title(post.getTitle())
                 .content(post.getContent())
                 .user(convertToUserResponse(post.getUser()))
-                .performance(convertToPerformanceSummary(post.getPerformance()))
+                .performance(performanceService.getPerformanceSummary(post.getPerformance().getId()))
                 .postType(post.getPostType())
                 .isSpoiler(post.getIsSpoiler())
-                .viewCount(post.getViewCount())
+                .viewCount(post.getViewCount() + viewCountService.getPendingCount(post.getId()))
                 .likeCount(post.getLikeCount())
                 .dislikeCount(post.getDislikeCount())
-                .commentCount(post.getComments().size())
+                .commentCount(post.getCommentCount())
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
                 .build();
@@ -167,17 +288,40 @@ public class PostService {
         return PostDto.PostSummary.builder()
                 .id(post.getId())
                 .title(post.getTitle())
-                .content(post.getContent())
+                .excerpt(post.getExcerpt())
                 .user(convertToUserResponse(post.getUser()))
                 .postType(post.getPostType())
                 .isSpoiler(post.getIsSpoiler())
-                .viewCount(post.getViewCount())
+                .viewCount(post.getViewCount() + viewCountService.getPendingCount(post.getId()))
                 .likeCount(post.getLikeCount())
-                .commentCount(post.getComments().size())
+                .commentCount(post.getCommentCount())
                 .createdAt(post.getCreatedAt())
                 .build();
     }
     
+    private PostDto.PostSummary convertToPostSummary(PostSummaryView view) {
+        return PostDto.PostSummary.builder()
+                .id(view.getId())
+                .title(view.getTitle())
+                .excerpt(view.getExcerpt())
+                .user(com.example.demo.dto.UserDto.UserResponse.builder()
+                        .id(view.getUserId())
+                        .username(view.getUsername())
+                        .email(view.getEmail())
+                        .nickname(view.getNickname())
+                        .profileImage(view.getProfileImage())
+                        .role(view.getRole().name())
+                        .createdAt(view.getUserCreatedAt())
+                        .build())
+                .postType(view.getPostType())
+                .isSpoiler(view.getIsSpoiler())
+                .viewCount(view.getViewCount() + viewCountService.getPendingCount(view.getId()))
+                .likeCount(view.getLikeCount())
+                .commentCount(view.getCommentCount())
+                .createdAt(view.getCreatedAt())
+                .build();
+    }
+    
     private com.example.demo.dto.UserDto.UserResponse convertToUserResponse(User user) {
         return com.example.demo.dto.UserDto.UserResponse.builder()
                 .id(user.getId())
@@ -189,17 +333,4 @@ public class PostService {
                 .createdAt(user.getCreatedAt())
                 .build();
     }
-    
-    private com.example.demo.dto.PerformanceDto.PerformanceSummary convertToPerformanceSummary(Performance performance) {
-        return com.example.demo.dto.PerformanceDto.PerformanceSummary.builder()
-                .id(performance.getId())
-                .title(performance.getTitle())
-                .posterImage(performance.getPosterImage())
-                .genre(performance.getGenre())
-                .venue(performance.getVenue())
-                .startDate(performance.getStartDate())
-                .endDate(performance.getEndDate())
-                .status(performance.getStatus())
-                .build();
-    }
 }
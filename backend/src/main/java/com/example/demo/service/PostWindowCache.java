@@ -0,0 +1,191 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.CacheDto;
+import com.example.demo.dto.PostDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+// 공연별 최신/좋아요순 게시글 상위 N개 (작성, 투표, 댓글이 생기면 캐시에 있는 창을 그 자리에서 갱신)
+@Component
+public class PostWindowCache {
+
+    private static final Comparator<PostDto.PostSummary> LATEST =
+            Comparator.comparing(PostDto.PostSummary::getCreatedAt, Comparator.reverseOrder())
+                    .thenComparing(PostDto.PostSummary::getId, Comparator.reverseOrder());
+
+    private static final Comparator<PostDto.PostSummary> TOP =
+            Comparator.comparing(PostDto.PostSummary::getLikeCount, Comparator.reverseOrder())
+                    .thenComparing(PostDto.PostSummary::getId, Comparator.reverseOrder());
+
+    private final int windowSize;
+    private final ReadThroughCache<Long, Window> latest;
+    private final ReadThroughCache<Long, Window> top;
+
+    public PostWindowCache(@Value("${app.post.window.size:10}") int windowSize,
+                           @Value("${app.post.window.ttl-ms:60000}") long ttlMillis,
+                           @Value("${app.post.window.max-size:1000}") int maxSize,
+                           @Value("${app.datasource.replica.enabled:false}") boolean replicaEnabled,
+                           @Value("${app.datasource.replica.read-your-writes-ms:5000}") long replicaLagMillis) {
+        this.windowSize = windowSize;
+        // 복제본을 쓰면 무효화 직후 로딩한 창은 복제 지연 구간이 끝날 때까지만 캐시
+        long lagMillis = replicaEnabled ? replicaLagMillis : 0;
+        this.latest = new ReadThroughCache<>("post.latest-window", ttlMillis, maxSize, lagMillis);
+        this.top = new ReadThroughCache<>("post.top-window", ttlMillis, maxSize, lagMillis);
+    }
+
+    public int windowSize() {
+        return windowSize;
+    }
+
+    // loader는 DB에서 windowSize개까지만 정렬해서 읽어 옴
+    public List<PostDto.PostSummary> latest(Long performanceId, Function<Long, List<PostDto.PostSummary>> loader) {
+        return latest.get(performanceId, id -> new Window(LATEST, windowSize, loader.apply(id))).snapshot();
+    }
+
+    public List<PostDto.PostSummary> top(Long performanceId, Function<Long, List<PostDto.PostSummary>> loader) {
+        return top.get(performanceId, id -> new Window(TOP, windowSize, loader.apply(id))).snapshot();
+    }
+
+    // 아래 변경은 모두 커밋 이후에 반영하고, 창 안에서 처리할 수 없으면 해당 창만 무효화
+    public void onPostCreated(Long performanceId, PostDto.PostSummary post) {
+        TransactionCallbacks.afterCommit(() -> {
+            update(latest, performanceId, window -> window.offer(post));
+            update(top, performanceId, window -> window.offer(post));
+        });
+    }
+
+    public void onPostUpdated(Long performanceId, PostDto.PostSummary post) {
+        TransactionCallbacks.afterCommit(() -> {
+            update(latest, performanceId, window -> window.replace(post.getId(), current -> post));
+            update(top, performanceId, window -> window.replace(post.getId(), current -> post));
+        });
+    }
+
+    public void onPostDeleted(Long performanceId, Long postId) {
+        TransactionCallbacks.afterCommit(() -> {
+            update(latest, performanceId, window -> !window.contains(postId));
+            update(top, performanceId, window -> !window.contains(postId));
+        });
+    }
+
+    public void onLikeCountChanged(Long performanceId, Long postId, int likeCount) {
+        TransactionCallbacks.afterCommit(() -> {
+            update(latest, performanceId,
+                    window -> window.replace(postId, current -> current.toBuilder().likeCount(likeCount).build()));
+            update(top, performanceId, window -> window.rerank(postId, likeCount));
+        });
+    }
+
+    public void onCommentCountChanged(Long performanceId, Long postId, int delta) {
+        UnaryOperator<PostDto.PostSummary> adjust =
+                current -> current.toBuilder().commentCount(current.getCommentCount() + delta).build();
+        TransactionCallbacks.afterCommit(() -> {
+            update(latest, performanceId, window -> window.replace(postId, adjust));
+            update(top, performanceId, window -> window.replace(postId, adjust));
+        });
+    }
+
+    public List<CacheDto.CacheStats> stats() {
+        return List.of(latest.stats(), top.stats());
+    }
+
+    // 캐시에 없는 창도 무효화해서 로딩 중이던 (변경 전) 결과가 저장되지 않도록 함
+    private void update(ReadThroughCache<Long, Window> cache, Long performanceId, Predicate<Window> change) {
+        Window window = cache.getIfPresent(performanceId);
+        if (window == null || !change.test(window)) {
+            cache.evict(performanceId);
+        }
+    }
+
+    // 정렬된 상위 N개. 요소는 바꾸지 않고 새 객체로 교체 (응답에 나간 객체가 바뀌지 않도록)
+    // 변경 메서드는 창을 그대로 쓸 수 없으면 false를 반환
+    private static final class Window {
+        private final Comparator<PostDto.PostSummary> order;
+        private final int capacity;
+        private final List<PostDto.PostSummary> posts;
+
+        private Window(Comparator<PostDto.PostSummary> order, int capacity, List<PostDto.PostSummary> posts) {
+            this.order = order;
+            this.capacity = capacity;
+            this.posts = new ArrayList<>(posts);
+            this.posts.sort(order);
+        }
+
+        synchronized List<PostDto.PostSummary> snapshot() {
+            return List.copyOf(posts);
+        }
+
+        synchronized boolean contains(Long postId) {
+            return indexOf(postId) >= 0;
+        }
+
+        // 창이 가득 차 있고 마지막보다 뒤에 오는 게시글이면 넣지 않음
+        synchronized boolean offer(PostDto.PostSummary post) {
+            if (indexOf(post.getId()) < 0) {
+                insert(post);
+            }
+            return true;
+        }
+
+        synchronized boolean replace(Long postId, UnaryOperator<PostDto.PostSummary> change) {
+            int index = indexOf(postId);
+            if (index >= 0) {
+                posts.set(index, change.apply(posts.get(index)));
+            }
+            return true;
+        }
+
+        // 좋아요 수가 바뀐 게시글의 위치를 다시 잡음
+        synchronized boolean rerank(Long postId, int likeCount) {
+            int index = indexOf(postId);
+            if (index < 0) {
+                // 창 밖의 게시글이 마지막 게시글을 앞지르면 새로 읽어야 함 (창이 덜 찼으면 공연의 모든 게시글이 들어 있음)
+                if (posts.size() < capacity) {
+                    return false;
+                }
+                PostDto.PostSummary last = posts.get(posts.size() - 1);
+                return likeCount < last.getLikeCount()
+                        || (likeCount == last.getLikeCount() && postId < last.getId());
+            }
+
+            PostDto.PostSummary post = posts.remove(index);
+            boolean decreased = likeCount < post.getLikeCount();
+            insert(post.toBuilder().likeCount(likeCount).build());
+
+            // 가득 찬 창의 마지막으로 밀려나면 창 밖 게시글이 더 앞일 수 있음
+            return !(decreased && posts.size() >= capacity && Objects.equals(posts.get(posts.size() - 1).getId(), postId));
+        }
+
+        private void insert(PostDto.PostSummary post) {
+            int index = Collections.binarySearch(posts, post, order);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            if (index >= capacity) {
+                return;
+            }
+            posts.add(index, post);
+            if (posts.size() > capacity) {
+                posts.remove(posts.size() - 1);
+            }
+        }
+
+        private int indexOf(Long postId) {
+            for (int i = 0; i < posts.size(); i++) {
+                if (posts.get(i).getId().equals(postId)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
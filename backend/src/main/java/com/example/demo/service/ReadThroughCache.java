@@ -0,0 +1,184 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.CacheDto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// LRU + TTL 캐시. 같은 키를 동시에 조회하면 로더는 한 번만 실행되고 나머지는 그 결과를 기다림
+public class ReadThroughCache<K, V> {
+
+    private final String name;
+    private final long ttlMillis;
+    private final int maxSize;
+    private final long replicaLagMillis;
+    private final Map<K, CachedValue<V>> entries;
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    // 무효화가 일어날 때마다 증가 (로딩 중에 무효화된 값이 다시 저장되지 않도록)
+    private final AtomicLong generation = new AtomicLong();
+
+    // 무효화 시각 (로더가 복제본을 읽으면 무효화 직후에도 이전 값을 읽을 수 있으므로 복제 지연 구간 동안 기억)
+    private final Map<K, Long> invalidatedAt = new ConcurrentHashMap<>();
+    private volatile long clearedAt;
+
+    public ReadThroughCache(String name, long ttlMillis, int maxSize) {
+        this(name, ttlMillis, maxSize, 0);
+    }
+
+    // replicaLagMillis: 무효화 후 이 구간 안에 시작한 로딩은 구간이 끝날 때까지만 캐시 (0이면 TTL 그대로)
+    public ReadThroughCache(String name, long ttlMillis, int maxSize, long replicaLagMillis) {
+        this.name = name;
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+        this.replicaLagMillis = replicaLagMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CachedValue<V>> eldest) {
+                if (size() > ReadThroughCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public V get(K key, Function<K, V> loader) {
+        synchronized (entries) {
+            CachedValue<V> cached = entries.get(key);
+            if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+                hits.incrementAndGet();
+                return cached.value();
+            }
+            if (cached != null) {
+                entries.remove(key);
+            }
+        }
+        misses.incrementAndGet();
+
+        CompletableFuture<V> loading = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, loading);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            long loadGeneration = generation.get();
+            long loadStartedAt = System.currentTimeMillis();
+            loads.incrementAndGet();
+            V value = loader.apply(key);
+
+            synchronized (entries) {
+                if (generation.get() == loadGeneration) {
+                    entries.put(key, new CachedValue<>(value, expiresAt(key, loadStartedAt)));
+                }
+            }
+            loading.complete(value);
+            return value;
+        } catch (RuntimeException ex) {
+            loading.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, loading);
+        }
+    }
+
+    // 로딩 없이 캐시에 남아 있는 값만 조회 (없거나 만료되면 null)
+    public V getIfPresent(K key) {
+        synchronized (entries) {
+            CachedValue<V> cached = entries.get(key);
+            return cached != null && cached.expiresAt() > System.currentTimeMillis() ? cached.value() : null;
+        }
+    }
+
+    public void evict(K key) {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.remove(key);
+        }
+        if (replicaLagMillis > 0) {
+            long now = System.currentTimeMillis();
+            invalidatedAt.put(key, now);
+            if (invalidatedAt.size() > maxSize) {
+                invalidatedAt.values().removeIf(at -> at + replicaLagMillis <= now);
+            }
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.clear();
+        }
+        if (replicaLagMillis > 0) {
+            clearedAt = System.currentTimeMillis();
+            invalidatedAt.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public CacheDto.CacheStats stats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long total = hitCount + missCount;
+
+        return CacheDto.CacheStats.builder()
+                .name(name)
+                .size(size())
+                .maxSize(maxSize)
+                .hitCount(hitCount)
+                .missCount(missCount)
+                .loadCount(loads.get())
+                .evictionCount(evictions.get())
+                .hitRatio(total == 0 ? 0.0 : (double) hitCount / total)
+                .build();
+    }
+
+    // 무효화 직후 로딩한 값은 복제본이 따라잡기 전의 값일 수 있으므로 복제 지연 구간이 끝나면 만료
+    private long expiresAt(K key, long loadStartedAt) {
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        if (replicaLagMillis <= 0) {
+            return expiresAt;
+        }
+        Long evictedAt = invalidatedAt.get(key);
+        long staleUntil = Math.max(clearedAt, evictedAt != null ? evictedAt : 0L) + replicaLagMillis;
+        if (loadStartedAt >= staleUntil) {
+            if (evictedAt != null) {
+                invalidatedAt.remove(key, evictedAt);
+            }
+            return expiresAt;
+        }
+        return Math.min(expiresAt, staleUntil);
+    }
+
+    // 다른 요청이 로딩 중인 값을 기다림 (로더가 던진 예외는 그대로 전달)
+    private V await(CompletableFuture<V> loading) {
+        try {
+            return loading.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private record CachedValue<V>(V value, long expiresAt) {
+    }
+}
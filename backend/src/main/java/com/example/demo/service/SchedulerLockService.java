@@ -0,0 +1,74 @@
+package com.example.demo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// scheduler_locks 행을 조건부 UPDATE로 선점해서 한 서버만 작업을 실행
+@Slf4j
+@Service
+public class SchedulerLockService {
+
+    private static final String INSERT_SQL = "INSERT INTO scheduler_locks (name, locked_until, locked_by) VALUES (?, ?, ?)";
+    private static final String ACQUIRE_SQL = "UPDATE scheduler_locks SET locked_until = ?, locked_by = ? "
+            + "WHERE name = ? AND locked_until <= ?";
+    private static final String RELEASE_SQL = "UPDATE scheduler_locks SET locked_until = ? "
+            + "WHERE name = ? AND locked_by = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String owner;
+
+    public SchedulerLockService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.owner = hostName() + ":" + UUID.randomUUID();
+    }
+
+    // 잠금 만료 시각은 업무 날짜용 Clock이 아니라 실제 시각 기준
+    public boolean tryAcquire(String name, Duration leaseTime) {
+        LocalDateTime now = LocalDateTime.now();
+        ensureRow(name);
+        int updated = jdbcTemplate.update(ACQUIRE_SQL,
+                Timestamp.valueOf(now.plus(leaseTime)), owner, name, Timestamp.valueOf(now));
+        return updated == 1;
+    }
+
+    public void release(String name) {
+        jdbcTemplate.update(RELEASE_SQL, Timestamp.valueOf(LocalDateTime.now()), name, owner);
+    }
+
+    // 다른 서버가 잡고 있는 잠금도 포함 (해제됐거나 임대 시간이 지났으면 false)
+    public boolean isHeld(String name) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM scheduler_locks WHERE name = ? AND locked_until > ?",
+                Integer.class, name, Timestamp.valueOf(LocalDateTime.now()));
+        return count != null && count > 0;
+    }
+
+    private void ensureRow(String name) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM scheduler_locks WHERE name = ?", Integer.class, name);
+        if (count != null && count > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_SQL, name, Timestamp.valueOf(LocalDateTime.of(1970, 1, 1, 0, 0)), null);
+        } catch (DuplicateKeyException e) {
+            // 다른 서버가 먼저 만든 경우
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,401 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Vote;
+import com.example.demo.repository.CommentRepository;
+import com.example.demo.repository.PostCommentActivityView;
+import com.example.demo.repository.PostRepository;
+import com.example.demo.repository.PostVoteActivityView;
+import com.example.demo.repository.TrendingPostView;
+import com.example.demo.repository.VoteRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+// 인기 게시글 순위 (투표/댓글/조회마다 시간 감쇠 점수를 더해서 공연별, 전체 순위를 유지)
+//
+// 이벤트 가중치에 exp((발생 시각 - 기준 시각) / 감쇠 시간)을 곱해서 누적하는 방식이라
+// 시간이 지나도 게시글 간 순서가 바뀌지 않고, 이벤트가 들어온 게시글만 다시 정렬하면 됨
+@Slf4j
+@Component
+public class TrendingPostIndex {
+
+    private static final double POST_WEIGHT = 1.0;
+    private static final double LIKE_WEIGHT = 1.0;
+    private static final double DISLIKE_WEIGHT = -0.5;
+    private static final double DEBATE_VOTE_WEIGHT = 0.5;
+    private static final double COMMENT_WEIGHT = 2.0;
+    private static final double VIEW_WEIGHT = 0.05;
+
+    // 점수 내림차순, 같은 점수는 id 내림차순 (최신 글 먼저)
+    private static final Comparator<Entry> RANKING =
+            Comparator.comparingDouble((Entry entry) -> entry.score).reversed()
+                    .thenComparing(entry -> entry.postId, Comparator.reverseOrder());
+
+    private final PostRepository postRepository;
+    private final VoteRepository voteRepository;
+    private final CommentRepository commentRepository;
+    private final Clock clock;
+    private final double decaySeconds;
+    private final Duration window;
+    private final int rebuildBatchSize;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Ranking ranking;
+
+    // 재구성 중에 들어온 이벤트 (새 순위로 교체하기 전에 다시 적용)
+    private List<Consumer<Ranking>> journal;
+
+    private volatile boolean ready;
+
+    // 조회는 건수가 많아서 모아 두었다가 주기적으로 반영
+    private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+    public TrendingPostIndex(PostRepository postRepository,
+                             VoteRepository voteRepository,
+                             CommentRepository commentRepository,
+                             Clock clock,
+                             @Value("${app.trending.half-life-hours:12}") double halfLifeHours,
+                             @Value("${app.trending.window-days:7}") int windowDays,
+                             @Value("${app.trending.rebuild-batch-size:500}") int rebuildBatchSize) {
+        this.postRepository = postRepository;
+        this.voteRepository = voteRepository;
+        this.commentRepository = commentRepository;
+        this.clock = clock;
+        this.decaySeconds = halfLifeHours * 3600 / Math.log(2);
+        this.window = Duration.ofDays(windowDays);
+        this.rebuildBatchSize = rebuildBatchSize;
+        this.ranking = new Ranking(decaySeconds, nowSeconds());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 최근 window 기간의 게시글만 투표/댓글 시각을 반영해서 다시 계산 (조회수는 작성 시각 기준으로 근사)
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            journal = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Ranking rebuilt = new Ranking(decaySeconds, nowSeconds());
+        try {
+            LocalDateTime since = LocalDateTime.now(clock).minus(window);
+            Long lastId = 0L;
+            while (true) {
+                List<TrendingPostView> posts =
+                        postRepository.findTrendingPostsAfter(since, lastId, PageRequest.of(0, rebuildBatchSize));
+                if (posts.isEmpty()) {
+                    break;
+                }
+
+                List<Long> postIds = new ArrayList<>();
+                for (TrendingPostView post : posts) {
+                    postIds.add(post.getId());
+                    double createdAt = toSeconds(post.getCreatedAt());
+                    rebuilt.add(post.getId(), post.getPerformanceId(), createdAt, POST_WEIGHT);
+                    rebuilt.bump(post.getId(), VIEW_WEIGHT * post.getViewCount(), createdAt);
+                }
+                for (PostVoteActivityView vote : voteRepository.findPostVoteActivity(postIds)) {
+                    rebuilt.bump(vote.getPostId(), weightOf(vote.getVoteType()), toSeconds(vote.getCreatedAt()));
+                }
+                for (PostCommentActivityView comment : commentRepository.findPostCommentActivity(postIds)) {
+                    rebuilt.bump(comment.getPostId(), COMMENT_WEIGHT, toSeconds(comment.getCreatedAt()));
+                }
+
+                if (posts.size() < rebuildBatchSize) {
+                    break;
+                }
+                lastId = postIds.get(postIds.size() - 1);
+            }
+        } catch (RuntimeException ex) {
+            lock.writeLock().lock();
+            try {
+                journal = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw ex;
+        }
+
+        // 이미 DB에서 읽은 이벤트가 다시 적용될 수 있지만 재구성 도중의 몇 건이라 순위에 미치는 영향은 작음
+        lock.writeLock().lock();
+        try {
+            journal.forEach(change -> change.accept(rebuilt));
+            journal = null;
+            ranking = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Rebuilt trending post ranking with {} posts", rebuilt.size());
+    }
+
+    // 아래 이벤트 메서드는 트랜잭션 안에서 호출되면 커밋된 경우에만 반영
+    public void onPostCreated(Long postId, Long performanceId, LocalDateTime createdAt) {
+        double at = createdAt != null ? toSeconds(createdAt) : nowSeconds();
+        TransactionCallbacks.afterCommit(() -> apply(current -> current.add(postId, performanceId, at, POST_WEIGHT)));
+    }
+
+    public void onPostDeleted(Long postId) {
+        TransactionCallbacks.afterCommit(() -> {
+            pendingViews.remove(postId);
+            apply(current -> current.remove(postId));
+        });
+    }
+
+    // 투표/댓글은 생성 시각 기준으로 더해 두었으므로 취소/삭제도 같은 시각 기준으로 빼야 rebuild() 결과와 같아짐
+    // (투표 타입만 바뀐 경우도 재구성 시에는 원래 투표 시각에 새 타입 가중치가 더해짐)
+    public void onPostVote(Long postId, Vote.VoteType removed, Vote.VoteType added, LocalDateTime votedAt) {
+        double weight = weightOf(added) - weightOf(removed);
+        if (weight == 0) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            double at = votedAt != null ? toSeconds(votedAt) : nowSeconds();
+            apply(current -> current.bump(postId, weight, at));
+        });
+    }
+
+    public void onCommentCreated(Long postId, LocalDateTime createdAt) {
+        TransactionCallbacks.afterCommit(() -> {
+            double at = createdAt != null ? toSeconds(createdAt) : nowSeconds();
+            apply(current -> current.bump(postId, COMMENT_WEIGHT, at));
+        });
+    }
+
+    // 함께 삭제된 대댓글까지 각각의 작성 시각으로 뺌
+    public void onCommentsDeleted(Long postId, Collection<LocalDateTime> createdAts) {
+        if (createdAts.isEmpty()) {
+            return;
+        }
+        List<Double> times = createdAts.stream().map(this::toSeconds).toList();
+        TransactionCallbacks.afterCommit(() -> apply(current -> times.forEach(at -> current.bump(postId, -COMMENT_WEIGHT, at))));
+    }
+
+    public void onView(Long postId) {
+        pendingViews.computeIfAbsent(postId, id -> new LongAdder()).increment();
+    }
+
+    @Scheduled(fixedDelayString = "${app.trending.view-flush-interval-ms:5000}")
+    public void flushViews() {
+        if (pendingViews.isEmpty()) {
+            return;
+        }
+        double at = nowSeconds();
+        Map<Long, Long> views = new HashMap<>();
+        for (Long postId : pendingViews.keySet()) {
+            LongAdder adder = pendingViews.remove(postId);
+            if (adder != null) {
+                views.put(postId, adder.sum());
+            }
+        }
+        apply(current -> views.forEach((postId, count) -> current.bump(postId, VIEW_WEIGHT * count, at)));
+    }
+
+    // 기준 시각을 현재로 옮기고 (점수가 너무 커지지 않도록) window를 벗어난 게시글 제거
+    @Scheduled(fixedDelayString = "${app.trending.rebase-interval-ms:3600000}")
+    public void rebase() {
+        double now = nowSeconds();
+        double cutoff = now - window.toSeconds();
+        apply(current -> current.rebase(now, cutoff));
+    }
+
+    // performanceId가 없으면 전체 순위
+    public List<TrendingPost> top(Long performanceId, int limit) {
+        double now = nowSeconds();
+        lock.readLock().lock();
+        try {
+            return ranking.top(performanceId, limit, now);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ranking.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(Consumer<Ranking> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(ranking);
+            if (journal != null) {
+                journal.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static double weightOf(Vote.VoteType voteType) {
+        if (voteType == null) {
+            return 0;
+        }
+        return switch (voteType) {
+            case LIKE -> LIKE_WEIGHT;
+            case DISLIKE -> DISLIKE_WEIGHT;
+            case AGREE, DISAGREE -> DEBATE_VOTE_WEIGHT;
+        };
+    }
+
+    private double nowSeconds() {
+        return toSeconds(clock.instant());
+    }
+
+    private double toSeconds(LocalDateTime dateTime) {
+        return toSeconds(dateTime.atZone(clock.getZone()).toInstant());
+    }
+
+    private static double toSeconds(Instant instant) {
+        return instant.toEpochMilli() / 1000.0;
+    }
+
+    // score: 현재 시각 기준으로 감쇠된 점수
+    public record TrendingPost(Long postId, double score) {
+    }
+
+    private static final class Entry {
+        private final Long postId;
+        private final Long performanceId;
+        private final double createdAt;
+        private double score;
+
+        private Entry(Long postId, Long performanceId, double createdAt) {
+            this.postId = postId;
+            this.performanceId = performanceId;
+            this.createdAt = createdAt;
+        }
+    }
+
+    // 점수는 baseSeconds 시점의 값으로 저장 (정렬 집합의 원소는 점수를 바꾸기 전에 꺼냈다가 다시 넣음)
+    private static final class Ranking {
+        private final double decaySeconds;
+        private double baseSeconds;
+        private final Map<Long, Entry> entries = new HashMap<>();
+        private final Map<Long, NavigableSet<Entry>> byPerformance = new HashMap<>();
+        private final NavigableSet<Entry> global = new TreeSet<>(RANKING);
+
+        private Ranking(double decaySeconds, double baseSeconds) {
+            this.decaySeconds = decaySeconds;
+            this.baseSeconds = baseSeconds;
+        }
+
+        void add(Long postId, Long performanceId, double createdAt, double weight) {
+            if (entries.containsKey(postId)) {
+                return;
+            }
+            Entry entry = new Entry(postId, performanceId, createdAt);
+            entry.score = weight * growth(createdAt);
+            entries.put(postId, entry);
+            attach(entry);
+        }
+
+        void bump(Long postId, double weight, double at) {
+            Entry entry = entries.get(postId);
+            if (entry == null || weight == 0) {
+                return;
+            }
+            detach(entry);
+            entry.score += weight * growth(at);
+            attach(entry);
+        }
+
+        void remove(Long postId) {
+            Entry entry = entries.remove(postId);
+            if (entry != null) {
+                detach(entry);
+            }
+        }
+
+        void rebase(double now, double cutoff) {
+            double factor = Math.exp((baseSeconds - now) / decaySeconds);
+            baseSeconds = now;
+
+            // 모든 점수에 같은 값을 곱하므로 순서는 그대로지만 정렬 집합은 새로 구성
+            global.clear();
+            byPerformance.clear();
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (entry.createdAt < cutoff) {
+                    iterator.remove();
+                    continue;
+                }
+                entry.score *= factor;
+                attach(entry);
+            }
+        }
+
+        List<TrendingPost> top(Long performanceId, int limit, double now) {
+            NavigableSet<Entry> ranked = performanceId != null ? byPerformance.get(performanceId) : global;
+            if (ranked == null || limit <= 0) {
+                return List.of();
+            }
+            double factor = Math.exp((baseSeconds - now) / decaySeconds);
+            List<TrendingPost> top = new ArrayList<>(Math.min(limit, ranked.size()));
+            for (Entry entry : ranked) {
+                if (top.size() >= limit) {
+                    break;
+                }
+                top.add(new TrendingPost(entry.postId, entry.score * factor));
+            }
+            return top;
+        }
+
+        int size() {
+            return entries.size();
+        }
+
+        private double growth(double at) {
+            return Math.exp((at - baseSeconds) / decaySeconds);
+        }
+
+        private void attach(Entry entry) {
+            global.add(entry);
+            byPerformance.computeIfAbsent(entry.performanceId, id -> new TreeSet<>(RANKING)).add(entry);
+        }
+
+        private void detach(Entry entry) {
+            global.remove(entry);
+            NavigableSet<Entry> ranked = byPerformance.get(entry.performanceId);
+            if (ranked != null) {
+                ranked.remove(entry);
+                if (ranked.isEmpty()) {
+                    byPerformance.remove(entry.performanceId);
+                }
+            }
+        }
+    }
+}
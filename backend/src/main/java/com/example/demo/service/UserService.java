@@ -3,7 +3,9 @@ package com.example.demo.service;
 import com.example.demo.dto.UserDto;
 import com.example.demo.entity.User;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.security.TokenVersionRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,6 +17,8 @@ public class UserService {
     
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ReadThroughCache<String, UserDetails> principalCache;
+    private final TokenVersionRegistry tokenVersionRegistry;
     
     @Transactional
     public UserDto.UserResponse signUp(UserDto.SignUpRequest request) {
@@ -66,9 +70,29 @@ public class UserService {
         
         User updatedUser = userRepository.save(user);
         
+        // 인증 캐시에 남아 있는 이전 사용자 정보 제거
+        TransactionCallbacks.afterCommit(() -> principalCache.evict(updatedUser.getUsername()));
+        
         return convertToUserResponse(updatedUser);
     }
     
+    // 지금까지 발급된 토큰을 모두 무효화
+    @Transactional
+    public void revokeTokens(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+        
+        userRepository.incrementTokenVersion(userId);
+        // 증가된 값을 DB에서 다시 읽음 (동시에 폐기 요청이 와도 실제로 저장된 버전을 반영)
+        int tokenVersion = userRepository.findTokenVersionById(userId);
+        
+        // 커밋된 뒤에만 반영 (롤백되면 이전 토큰이 계속 유효해야 함)
+        TransactionCallbacks.afterCommit(() -> {
+            tokenVersionRegistry.update(userId, tokenVersion);
+            principalCache.evict(user.getUsername());
+        });
+    }
+    
     private UserDto.UserResponse convertToUserResponse(User user) {
         return UserDto.UserResponse.builder()
                 .id(user.getId())
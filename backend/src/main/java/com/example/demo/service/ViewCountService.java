@@ -0,0 +1,83 @@
+package com.example.demo.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountService {
+
+    private static final String FLUSH_SQL = "UPDATE posts SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 게시글 ID별로 아직 DB에 반영되지 않은 조회수
+    private final Map<Long, LongAdder> pendingCounts = new ConcurrentHashMap<>();
+
+    public void increment(Long postId) {
+        pendingCounts.computeIfAbsent(postId, id -> new LongAdder()).increment();
+    }
+
+    public int getPendingCount(Long postId) {
+        LongAdder adder = pendingCounts.get(postId);
+        return adder != null ? adder.intValue() : 0;
+    }
+
+    @Scheduled(fixedDelayString = "${app.view-count.flush-interval-ms:5000}")
+    public synchronized int flush() {
+        List<Object[]> batchArgs = new ArrayList<>();
+
+        for (Map.Entry<Long, LongAdder> entry : pendingCounts.entrySet()) {
+            Long postId = entry.getKey();
+            LongAdder adder = entry.getValue();
+            long delta = adder.sum();
+
+            if (delta == 0) {
+                // 변화가 없는 항목은 제거하고, 제거 직전에 들어온 증가분은 다시 옮겨 담는다
+                if (pendingCounts.remove(postId, adder)) {
+                    long late = adder.sum();
+                    if (late != 0) {
+                        pendingCounts.computeIfAbsent(postId, id -> new LongAdder()).add(late);
+                    }
+                }
+                continue;
+            }
+
+            // sumThenReset 대신 읽은 만큼만 차감해서 동시에 들어온 증가분을 잃지 않는다
+            adder.add(-delta);
+            batchArgs.add(new Object[]{delta, postId});
+        }
+
+        if (!batchArgs.isEmpty()) {
+            try {
+                jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+                log.debug("Flushed view counts for {} posts", batchArgs.size());
+            } catch (RuntimeException ex) {
+                // 반영에 실패한 조회수는 다음 주기에 다시 시도
+                for (Object[] args : batchArgs) {
+                    pendingCounts.computeIfAbsent((Long) args[1], id -> new LongAdder()).add((Long) args[0]);
+                }
+                log.error("Failed to flush view counts", ex);
+                return 0;
+            }
+        }
+
+        return batchArgs.size();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
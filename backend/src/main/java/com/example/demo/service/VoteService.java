@@ -9,44 +9,99 @@ import com.example.demo.repository.VoteRepository;
 import com.example.demo.repository.PostRepository;
 import com.example.demo.repository.CommentRepository;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.repository.VoteTallyView;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class VoteService {
     
+    private static final int MAX_VOTE_ATTEMPTS = 5;
+    private static final long VOTE_RETRY_BACKOFF_MILLIS = 20;
+    
     private final VoteRepository voteRepository;
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TrendingPostIndex trendingPostIndex;
+    private final PostWindowCache postWindowCache;
     
-    @Transactional
+    // 같은 사용자의 투표는 사용자 행 잠금으로 차례대로 처리하고,
+    // 그래도 유니크 제약/락 충돌이 나면 잠깐 무작위로 기다렸다가 새 트랜잭션으로 다시 시도
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public VoteDto.VoteResponse vote(VoteDto.VoteRequest request, Long userId) {
-        User user = userRepository.findById(userId)
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> toggleVote(request, userId));
+            } catch (DataIntegrityViolationException | ConcurrencyFailureException ex) {
+                if (attempt >= MAX_VOTE_ATTEMPTS) {
+                    log.warn("Vote conflict not resolved after {} attempts: userId={}", attempt, userId, ex);
+                    throw new RuntimeException("투표 처리 중 충돌이 발생했습니다. 다시 시도해주세요.");
+                }
+                backoff(attempt);
+            }
+        }
+    }
+    
+    // 시도할 때마다 대기 상한을 늘림 (같은 순간에 다시 부딪히지 않도록 무작위)
+    private static void backoff(int attempt) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(VOTE_RETRY_BACKOFF_MILLIS * attempt) + 1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("투표 처리 중 충돌이 발생했습니다. 다시 시도해주세요.");
+        }
+    }
+    
+    private VoteDto.VoteResponse toggleVote(VoteDto.VoteRequest request, Long userId) {
+        // 사용자 행을 먼저 잠가서 같은 사용자의 동시 투표가 서로의 INSERT를 보고 판단하도록 함
+        User user = userRepository.findForUpdateById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         
-        // 기존 투표가 있는지 확인
+        // 기존 투표가 있으면 행 잠금 후 확인
         Vote existingVote = null;
         if (request.getPostId() != null) {
-            existingVote = voteRepository.findByUserIdAndPostId(userId, request.getPostId()).orElse(null);
+            existingVote = voteRepository.findForUpdateByUserIdAndPostId(userId, request.getPostId()).orElse(null);
         } else if (request.getCommentId() != null) {
-            existingVote = voteRepository.findByUserIdAndCommentId(userId, request.getCommentId()).orElse(null);
+            existingVote = voteRepository.findForUpdateByUserIdAndCommentId(userId, request.getCommentId()).orElse(null);
         }
         
-        // 기존 투표가 있으면 삭제
         if (existingVote != null) {
-            voteRepository.delete(existingVote);
+            Vote.VoteType previousType = existingVote.getVoteType();
             
             // 같은 타입으로 다시 투표하면 취소
-            if (existingVote.getVoteType() == request.getVoteType()) {
+            if (previousType == request.getVoteType()) {
+                voteRepository.delete(existingVote);
+                adjustTally(request.getPostId(), request.getCommentId(), previousType, null, existingVote.getCreatedAt());
                 return null; // 투표 취소
             }
+            
+            // 다른 타입이면 기존 행의 타입만 변경
+            existingVote.setVoteType(request.getVoteType());
+            adjustTally(request.getPostId(), request.getCommentId(), previousType, request.getVoteType(),
+                    existingVote.getCreatedAt());
+            return convertToVoteResponse(existingVote);
         }
         
-        // 새 투표 생성
+        // 새 투표 생성 (동시 삽입은 유니크 제약으로 막힘)
         Vote vote = Vote.builder()
                 .user(user)
                 .post(request.getPostId() != null ? postRepository.getReferenceById(request.getPostId()) : null)
@@ -56,21 +111,17 @@ public class VoteService {
         
         Vote savedVote = voteRepository.save(vote);
         
+        adjustTally(request.getPostId(), request.getCommentId(), null, request.getVoteType(), savedVote.getCreatedAt());
+        
         return convertToVoteResponse(savedVote);
     }
     
     public VoteDto.VoteSummary getVoteSummary(Long postId, Long commentId, Long userId) {
-        Long likeCount = 0L;
-        Long dislikeCount = 0L;
-        Long agreeCount = 0L;
-        Long disagreeCount = 0L;
+        VoteTallyView tally = null;
         Vote.VoteType userVote = null;
         
         if (postId != null) {
-            likeCount = voteRepository.countByPostIdAndVoteType(postId, Vote.VoteType.LIKE);
-            dislikeCount = voteRepository.countByPostIdAndVoteType(postId, Vote.VoteType.DISLIKE);
-            agreeCount = voteRepository.countByPostIdAndVoteType(postId, Vote.VoteType.AGREE);
-            disagreeCount = voteRepository.countByPostIdAndVoteType(postId, Vote.VoteType.DISAGREE);
+            tally = postRepository.findVoteTally(postId).orElse(null);
             
             if (userId != null) {
                 var optionalVote = voteRepository.findByUserIdAndPostId(userId, postId);
@@ -79,10 +130,7 @@ public class VoteService {
                 }
             }
         } else if (commentId != null) {
-            likeCount = voteRepository.countByCommentIdAndVoteType(commentId, Vote.VoteType.LIKE);
-            dislikeCount = voteRepository.countByCommentIdAndVoteType(commentId, Vote.VoteType.DISLIKE);
-            agreeCount = voteRepository.countByCommentIdAndVoteType(commentId, Vote.VoteType.AGREE);
-            disagreeCount = voteRepository.countByCommentIdAndVoteType(commentId, Vote.VoteType.DISAGREE);
+            tally = commentRepository.findVoteTally(commentId).orElse(null);
             
             if (userId != null) {
                 var optionalVote = voteRepository.findByUserIdAndCommentId(userId, commentId);
@@ -92,14 +140,44 @@ public class VoteService {
             }
         }
         
-        return VoteDto.VoteSummary.builder()
-                .postId(postId)
-                .commentId(commentId)
-                .likeCount(likeCount)
-                .dislikeCount(dislikeCount)
-                .agreeCount(agreeCount)
-                .disagreeCount(disagreeCount)
-                .userVote(userVote)
+        return buildSummary(postId, commentId, tally, userVote);
+    }
+    
+    // 한 페이지 분량의 게시글/댓글 투표 요약을 대상별 IN 조회로 한 번에 계산
+    public VoteDto.BatchSummaryResponse getVoteSummaries(VoteDto.BatchSummaryRequest request) {
+        List<Long> postIds = distinctIds(request.getPostIds());
+        List<Long> commentIds = distinctIds(request.getCommentIds());
+        Long userId = request.getUserId();
+        
+        List<VoteDto.VoteSummary> postSummaries = new ArrayList<>();
+        if (!postIds.isEmpty()) {
+            Map<Long, VoteTallyView> tallies = toTallyMap(postRepository.findVoteTallies(postIds));
+            Map<Long, Vote.VoteType> userVotes = new HashMap<>();
+            if (userId != null) {
+                voteRepository.findByUserIdAndPostIdIn(userId, postIds)
+                        .forEach(vote -> userVotes.put(vote.getPost().getId(), vote.getVoteType()));
+            }
+            for (Long postId : postIds) {
+                postSummaries.add(buildSummary(postId, null, tallies.get(postId), userVotes.get(postId)));
+            }
+        }
+        
+        List<VoteDto.VoteSummary> commentSummaries = new ArrayList<>();
+        if (!commentIds.isEmpty()) {
+            Map<Long, VoteTallyView> tallies = toTallyMap(commentRepository.findVoteTallies(commentIds));
+            Map<Long, Vote.VoteType> userVotes = new HashMap<>();
+            if (userId != null) {
+                voteRepository.findByUserIdAndCommentIdIn(userId, commentIds)
+                        .forEach(vote -> userVotes.put(vote.getComment().getId(), vote.getVoteType()));
+            }
+            for (Long commentId : commentIds) {
+                commentSummaries.add(buildSummary(null, commentId, tallies.get(commentId), userVotes.get(commentId)));
+            }
+        }
+        
+        return VoteDto.BatchSummaryResponse.builder()
+                .posts(postSummaries)
+                .comments(commentSummaries)
                 .build();
     }
     
@@ -114,11 +192,71 @@ public class VoteService {
     
     @Transactional
     public void removeVote(Long userId, Long postId, Long commentId) {
+        Vote existingVote = null;
         if (postId != null) {
-            voteRepository.deleteByUserIdAndPostId(userId, postId);
+            existingVote = voteRepository.findForUpdateByUserIdAndPostId(userId, postId).orElse(null);
         } else if (commentId != null) {
-            voteRepository.deleteByUserIdAndCommentId(userId, commentId);
+            existingVote = voteRepository.findForUpdateByUserIdAndCommentId(userId, commentId).orElse(null);
+        }
+        
+        if (existingVote != null) {
+            voteRepository.delete(existingVote);
+            adjustTally(postId, commentId, existingVote.getVoteType(), null, existingVote.getCreatedAt());
+        }
+    }
+    
+    // 이전 투표 타입은 1 감소, 새 투표 타입은 1 증가시키는 단일 UPDATE
+    // votedAt: 투표 행의 작성 시각 (인기글 점수는 이 시각 기준으로 더하고 뺌)
+    private void adjustTally(Long postId, Long commentId, Vote.VoteType removed, Vote.VoteType added,
+                             LocalDateTime votedAt) {
+        int[] delta = new int[Vote.VoteType.values().length];
+        if (removed != null) {
+            delta[removed.ordinal()]--;
+        }
+        if (added != null) {
+            delta[added.ordinal()]++;
+        }
+        
+        int like = delta[Vote.VoteType.LIKE.ordinal()];
+        int dislike = delta[Vote.VoteType.DISLIKE.ordinal()];
+        int agree = delta[Vote.VoteType.AGREE.ordinal()];
+        int disagree = delta[Vote.VoteType.DISAGREE.ordinal()];
+        
+        if (postId != null) {
+            postRepository.adjustVoteCounts(postId, like, dislike, agree, disagree);
+            trendingPostIndex.onPostVote(postId, removed, added, votedAt);
+            if (like != 0) {
+                postRepository.findLikeCountById(postId).ifPresent(post ->
+                        postWindowCache.onLikeCountChanged(post.getPerformanceId(), postId, post.getLikeCount()));
+            }
+        } else if (commentId != null) {
+            commentRepository.adjustVoteCounts(commentId, like, dislike, agree, disagree);
+        }
+    }
+    
+    private VoteDto.VoteSummary buildSummary(Long postId, Long commentId, VoteTallyView tally, Vote.VoteType userVote) {
+        return VoteDto.VoteSummary.builder()
+                .postId(postId)
+                .commentId(commentId)
+                .likeCount(tally != null ? tally.getLikeCount().longValue() : 0L)
+                .dislikeCount(tally != null ? tally.getDislikeCount().longValue() : 0L)
+                .agreeCount(tally != null ? tally.getAgreeCount().longValue() : 0L)
+                .disagreeCount(tally != null ? tally.getDisagreeCount().longValue() : 0L)
+                .userVote(userVote)
+                .build();
+    }
+    
+    private Map<Long, VoteTallyView> toTallyMap(List<VoteTallyView> tallies) {
+        Map<Long, VoteTallyView> map = new HashMap<>();
+        tallies.forEach(tally -> map.put(tally.getId(), tally));
+        return map;
+    }
+    
+    private List<Long> distinctIds(List<Long> ids) {
+        if (ids == null) {
+            return List.of();
         }
+        return ids.stream().filter(Objects::nonNull).distinct().toList();
     }
     
     private VoteDto.VoteResponse convertToVoteResponse(Vote vote) {
@@ -0,0 +1,45 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.CommentRepository;
+import com.example.demo.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteTallyReconciler {
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+
+    @Value("${app.vote-tally.rebuild-batch-size:1000}")
+    private int batchSize;
+
+    // votes 테이블을 기준으로 게시글/댓글의 투표 집계를 id 구간 단위로 다시 계산
+    @Scheduled(cron = "${app.vote-tally.rebuild-cron:0 0 5 * * *}")
+    public void rebuild() {
+        int posts = rebuildRange(postRepository.findMaxId(), true);
+        int comments = rebuildRange(commentRepository.findMaxId(), false);
+
+        log.info("Corrected vote tallies for {} posts and {} comments", posts, comments);
+    }
+
+    private int rebuildRange(Long maxId, boolean post) {
+        if (maxId == null) {
+            return 0;
+        }
+
+        int rebuilt = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += batchSize) {
+            long toId = fromId + batchSize - 1;
+            rebuilt += post
+                    ? postRepository.rebuildVoteCounts(fromId, toId)
+                    : commentRepository.rebuildVoteCounts(fromId, toId);
+        }
+        return rebuilt;
+    }
+}
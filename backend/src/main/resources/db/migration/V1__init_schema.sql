@@ -0,0 +1,112 @@
+-- 초기 스키마 (엔티티 매핑과 동일하게 유지, PostgreSQL / H2 PostgreSQL 모드 공용)
+
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE performances_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE posts_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE comments_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE votes_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE users (
+    id            BIGINT       NOT NULL,
+    username      VARCHAR(255) NOT NULL,
+    email         VARCHAR(255) NOT NULL,
+    password      VARCHAR(255) NOT NULL,
+    nickname      VARCHAR(255),
+    profile_image VARCHAR(255),
+    role          VARCHAR(255) CHECK (role IN ('USER', 'ADMIN')),
+    token_version INTEGER      NOT NULL,
+    created_at    TIMESTAMP(6),
+    updated_at    TIMESTAMP(6),
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE performances (
+    id           BIGINT       NOT NULL,
+    title        VARCHAR(255) NOT NULL,
+    description  TEXT,
+    poster_image VARCHAR(255),
+    genre        VARCHAR(255),
+    venue        VARCHAR(255),
+    start_date   DATE,
+    end_date     DATE,
+    running_time INTEGER,
+    status       VARCHAR(255) CHECK (status IN ('UPCOMING', 'ONGOING', 'COMPLETED', 'CANCELLED')),
+    created_at   TIMESTAMP(6),
+    updated_at   TIMESTAMP(6),
+    CONSTRAINT pk_performances PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_performances_created ON performances (created_at, id);
+CREATE INDEX idx_performances_status_start_date ON performances (status, start_date, id);
+CREATE INDEX idx_performances_status_end_date ON performances (status, end_date, id);
+
+CREATE TABLE posts (
+    id             BIGINT       NOT NULL,
+    title          VARCHAR(255) NOT NULL,
+    content        TEXT         NOT NULL,
+    user_id        BIGINT       NOT NULL,
+    performance_id BIGINT       NOT NULL,
+    post_type      VARCHAR(255) CHECK (post_type IN ('REVIEW', 'DISCUSSION', 'QUESTION', 'NEWS', 'GENERAL')),
+    is_spoiler     BOOLEAN,
+    view_count     INTEGER,
+    like_count     INTEGER,
+    dislike_count  INTEGER,
+    agree_count    INTEGER,
+    disagree_count INTEGER,
+    comment_count  INTEGER,
+    created_at     TIMESTAMP(6),
+    updated_at     TIMESTAMP(6),
+    CONSTRAINT pk_posts PRIMARY KEY (id),
+    CONSTRAINT fk_posts_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_posts_performance FOREIGN KEY (performance_id) REFERENCES performances (id)
+);
+
+CREATE INDEX idx_posts_performance_created ON posts (performance_id, created_at, id);
+CREATE INDEX idx_posts_performance_like ON posts (performance_id, like_count, id);
+
+CREATE TABLE comments (
+    id             BIGINT  NOT NULL,
+    content        TEXT    NOT NULL,
+    user_id        BIGINT  NOT NULL,
+    post_id        BIGINT  NOT NULL,
+    parent_id      BIGINT,
+    depth          INTEGER,
+    is_spoiler     BOOLEAN,
+    like_count     INTEGER,
+    dislike_count  INTEGER,
+    agree_count    INTEGER,
+    disagree_count INTEGER,
+    created_at     TIMESTAMP(6),
+    updated_at     TIMESTAMP(6),
+    CONSTRAINT pk_comments PRIMARY KEY (id),
+    CONSTRAINT fk_comments_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_comments_post FOREIGN KEY (post_id) REFERENCES posts (id),
+    CONSTRAINT fk_comments_parent FOREIGN KEY (parent_id) REFERENCES comments (id)
+);
+
+CREATE INDEX idx_comments_post_parent_created ON comments (post_id, parent_id, created_at, id);
+CREATE INDEX idx_comments_user_created ON comments (user_id, created_at, id);
+
+CREATE TABLE votes (
+    id         BIGINT       NOT NULL,
+    user_id    BIGINT       NOT NULL,
+    post_id    BIGINT,
+    comment_id BIGINT,
+    vote_type  VARCHAR(255) NOT NULL CHECK (vote_type IN ('LIKE', 'DISLIKE', 'AGREE', 'DISAGREE')),
+    created_at TIMESTAMP(6),
+    CONSTRAINT pk_votes PRIMARY KEY (id),
+    CONSTRAINT uk_votes_user_post UNIQUE (user_id, post_id),
+    CONSTRAINT uk_votes_user_comment UNIQUE (user_id, comment_id),
+    CONSTRAINT fk_votes_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_votes_post FOREIGN KEY (post_id) REFERENCES posts (id),
+    CONSTRAINT fk_votes_comment FOREIGN KEY (comment_id) REFERENCES comments (id)
+);
+
+CREATE TABLE scheduler_locks (
+    name         VARCHAR(64)  NOT NULL,
+    locked_until TIMESTAMP(6) NOT NULL,
+    locked_by    VARCHAR(255),
+    CONSTRAINT pk_scheduler_locks PRIMARY KEY (name)
+);
@@ -0,0 +1,21 @@
+-- 저장소 쿼리 조건/정렬에 맞춘 인덱스 (엔티티 @Index와 동일하게 유지)
+
+-- 게시글: 공연 + 유형/스포일러 필터, 작성자별 목록, 인기글 색인 구성 (created_at 구간)
+CREATE INDEX idx_posts_performance_type_created ON posts (performance_id, post_type, created_at, id);
+CREATE INDEX idx_posts_performance_spoiler_created ON posts (performance_id, is_spoiler, created_at, id);
+CREATE INDEX idx_posts_user_created ON posts (user_id, created_at, id);
+CREATE INDEX idx_posts_created ON posts (created_at, id);
+
+-- 댓글: 부모 댓글 기준 대댓글 조회/집계 (post_id 없이 parent_id만으로 찾는 쿼리)
+CREATE INDEX idx_comments_parent_created ON comments (parent_id, created_at, id);
+
+-- 투표: 대상별 타입 집계 (사용자 기준 조회는 유니크 제약 인덱스 사용)
+CREATE INDEX idx_votes_post_type ON votes (post_id, vote_type);
+CREATE INDEX idx_votes_comment_type ON votes (comment_id, vote_type);
+
+-- 사용자: 토큰 버전이 올라간 사용자만 읽음
+CREATE INDEX idx_users_token_version ON users (token_version);
+
+-- 공연 최신순은 WHERE 없이 정렬만 하므로 정렬 방향과 같은 인덱스로 교체
+DROP INDEX idx_performances_created;
+CREATE INDEX idx_performances_created ON performances (created_at DESC, id DESC);
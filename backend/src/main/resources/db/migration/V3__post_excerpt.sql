@@ -0,0 +1,2 @@
+-- 목록용 게시글 요약 (기존 게시글은 시작 시 PostExcerptBackfill이 채움)
+ALTER TABLE posts ADD COLUMN excerpt VARCHAR(300);
@@ -0,0 +1,5 @@
+-- prod 프로필의 스키마 검증(ddl-auto=validate): 엔티티는 문자열(VARCHAR)로 매핑하는데
+-- H2에서는 TEXT가 CLOB으로 만들어지므로 길이 제한 없는 VARCHAR로 바꿈 (PostgreSQL에서는 text와 같은 저장 방식)
+ALTER TABLE performances ALTER COLUMN description SET DATA TYPE VARCHAR;
+ALTER TABLE posts ALTER COLUMN content SET DATA TYPE VARCHAR;
+ALTER TABLE comments ALTER COLUMN content SET DATA TYPE VARCHAR;
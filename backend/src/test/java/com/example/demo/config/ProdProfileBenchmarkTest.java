@@ -0,0 +1,89 @@
+package com.example.demo.config;
+
+import com.example.demo.MudaeBackstageBackApplication;
+import com.example.demo.entity.User;
+import com.example.demo.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 기본(메모리 DB, create-drop, SQL 로깅)과 prod 프로필(H2 파일 DB, Flyway, 로깅 끔)의 기동 시간과 처리량 비교
+@Tag("benchmark")
+class ProdProfileBenchmarkTest {
+
+	private static final Logger log = LoggerFactory.getLogger(ProdProfileBenchmarkTest.class);
+
+	private static final int OPERATIONS = 2_000;
+
+	@TempDir
+	Path dataDir;
+
+	@Test
+	void prodProfileMigratesFileDatabaseAndKeepsDataAcrossRestarts() {
+		String prodUrl = "--spring.datasource.url=jdbc:h2:file:" + dataDir.resolve("mudae")
+				+ ";MODE=PostgreSQL;QUERY_CACHE_SIZE=64";
+
+		Result dev = run("default", "--spring.datasource.url=jdbc:h2:mem:startup-default;DB_CLOSE_DELAY=-1;MODE=PostgreSQL");
+		Result prod = run("prod", "--spring.profiles.active=prod", prodUrl);
+
+		log.info("default: startup {} ms, {} ops/s", dev.startupMillis(), Math.round(dev.opsPerSecond()));
+		log.info("prod:    startup {} ms, {} ops/s", prod.startupMillis(), Math.round(prod.opsPerSecond()));
+
+		// 재시작해도 데이터가 남아 있고, 이미 적용된 마이그레이션은 다시 실행하지 않음
+		try (ConfigurableApplicationContext context = start("--spring.profiles.active=prod", prodUrl)) {
+			assertThat(context.getBean(UserRepository.class).count()).isEqualTo(OPERATIONS);
+			assertThat(context.getBean(Flyway.class).info().pending()).isEmpty();
+			assertThat(context.getBean(Flyway.class).info().applied()).isNotEmpty();
+
+			HikariDataSource dataSource = context.getBean(HikariDataSource.class);
+			assertThat(dataSource.getMaximumPoolSize())
+					.isEqualTo(DataSourceConfig.poolSize(Runtime.getRuntime().availableProcessors(), 2));
+		}
+	}
+
+	private Result run(String label, String... args) {
+		long startedAt = System.nanoTime();
+		try (ConfigurableApplicationContext context = start(args)) {
+			long startupMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+			UserRepository userRepository = context.getBean(UserRepository.class);
+			TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+			String prefix = label + "_" + System.nanoTime() + "_";
+
+			// 요청 하나에 트랜잭션 하나: 가입(INSERT) 후 조회(SELECT)
+			long operationsStartedAt = System.nanoTime();
+			for (int i = 0; i < OPERATIONS; i++) {
+				String username = prefix + i;
+				transactionTemplate.executeWithoutResult(status -> userRepository.save(User.builder()
+						.username(username)
+						.email(username + "@example.com")
+						.password("password")
+						.role(User.Role.USER)
+						.build()));
+				assertThat(userRepository.findByUsername(username)).isPresent();
+			}
+			double seconds = (System.nanoTime() - operationsStartedAt) / 1e9;
+			return new Result(startupMillis, OPERATIONS / seconds);
+		}
+	}
+
+	private ConfigurableApplicationContext start(String... args) {
+		return new SpringApplicationBuilder(MudaeBackstageBackApplication.class)
+				.properties("server.port=0")
+				.run(args);
+	}
+
+	private record Result(long startupMillis, double opsPerSecond) {
+	}
+}
@@ -0,0 +1,25 @@
+package com.example.demo.config;
+
+import com.example.demo.MudaeBackstageBackApplication;
+import com.example.demo.repository.UserRepository;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// prod 프로필은 Flyway로 만든 스키마를 엔티티 매핑과 대조해 검증하므로, 마이그레이션과 매핑이 어긋나면 기동에 실패함
+class ProdProfileSchemaTest {
+
+	@Test
+	void migratedSchemaPassesHibernateValidation() {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MudaeBackstageBackApplication.class)
+				.properties("server.port=0")
+				.run("--spring.profiles.active=prod",
+						"--spring.datasource.url=jdbc:h2:mem:prod-schema;DB_CLOSE_DELAY=-1;MODE=PostgreSQL")) {
+			assertThat(context.getBean(Flyway.class).info().pending()).isEmpty();
+			assertThat(context.getBean(UserRepository.class).count()).isZero();
+		}
+	}
+}
@@ -0,0 +1,191 @@
+package com.example.demo.config;
+
+import com.example.demo.dto.PostDto;
+import com.example.demo.entity.Performance;
+import com.example.demo.entity.User;
+import com.example.demo.repository.PerformanceRepository;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.security.CustomUserDetailsService;
+import com.example.demo.service.MutableClock;
+import com.example.demo.service.PostService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 주 DB와 복제본을 H2 인메모리 DB 두 개로 띄우고, 복제는 테스트에서 직접 스크립트로 옮겨서 지연을 흉내 냄
+@SpringBootTest(properties = {
+		"spring.datasource.url=" + ReadWriteRoutingTest.PRIMARY_URL,
+		"app.datasource.replica.enabled=true",
+		"app.datasource.replica.url=" + ReadWriteRoutingTest.REPLICA_URL,
+		"app.datasource.replica.username=sa",
+		"app.datasource.replica.read-your-writes-ms=5000"
+})
+class ReadWriteRoutingTest {
+
+	static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=PostgreSQL";
+	static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=PostgreSQL";
+
+	@TestConfiguration
+	static class ClockConfig {
+
+		@Bean
+		@Primary
+		MutableClock testClock() {
+			return new MutableClock(LocalDate.of(2030, 4, 1));
+		}
+	}
+
+	@Autowired
+	private PostService postService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private PerformanceRepository performanceRepository;
+
+	@Autowired
+	private CustomUserDetailsService userDetailsService;
+
+	@Autowired
+	private MutableClock clock;
+
+	private Long performanceId;
+	private Long writerId;
+
+	// 기동 중 읽기 전용 작업(색인 구성 등)이 복제본으로 가므로 컨텍스트보다 먼저 스키마를 만들어 둠
+	@BeforeAll
+	static void createReplicaSchema() {
+		Flyway.configure().dataSource(REPLICA_URL, "sa", "").load().migrate();
+	}
+
+	@BeforeEach
+	void setUp() throws Exception {
+		writerId = userRepository.save(user("writer_" + System.nanoTime())).getId();
+		userRepository.save(user("reader_" + System.nanoTime()));
+		performanceId = performanceRepository.save(Performance.builder()
+				.title("라우팅 테스트 공연")
+				.startDate(LocalDate.of(2030, 4, 1))
+				.endDate(LocalDate.of(2030, 4, 30))
+				.status(Performance.Status.ONGOING)
+				.build()).getId();
+		replicate();
+	}
+
+	@AfterEach
+	void clearAuthentication() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void readOnlyTransactionsGoToReplicaUntilReplicated() throws Exception {
+		postService.createPost(writerId, createRequest("복제 전 게시글"));
+
+		// 로그인하지 않은 읽기는 복제본에서 처리되므로 아직 복제되지 않은 글은 안 보임
+		assertThat(postCount()).isZero();
+
+		replicate();
+		assertThat(postCount()).isEqualTo(1);
+	}
+
+	@Test
+	void writerReadsOwnWritesFromPrimaryWithinWindow() throws Exception {
+		User writer = userRepository.findById(writerId).orElseThrow();
+		String reader = userRepository.findAll().stream()
+				.map(User::getUsername)
+				.filter(name -> name.startsWith("reader_"))
+				.findFirst()
+				.orElseThrow();
+
+		authenticate(writer.getUsername());
+		postService.createPost(writerId, createRequest("방금 쓴 게시글"));
+		assertThat(postCount()).isEqualTo(1);
+
+		// 다른 사용자는 복제본을 읽음
+		authenticate(reader);
+		assertThat(postCount()).isZero();
+
+		// 허용 구간이 지나면 작성자도 복제본을 읽음
+		authenticate(writer.getUsername());
+		clock.advance(Duration.ofSeconds(6));
+		assertThat(postCount()).isZero();
+
+		replicate();
+		assertThat(postCount()).isEqualTo(1);
+	}
+
+	@Test
+	void loginLookupReadsPrimaryRightAfterSignup() {
+		String username = "signup_" + System.nanoTime();
+		userRepository.save(user(username));
+
+		// 가입 직후 로그인은 익명 요청이지만 복제를 기다리지 않고 찾아야 함
+		assertThat(userDetailsService.loadUserByUsername(username).getUsername()).isEqualTo(username);
+		assertThat(userRepository.findByUsername(username)).isEmpty();
+	}
+
+	private long postCount() {
+		return postService.getPostsByPerformance(performanceId, PageRequest.of(0, 10)).getTotalElements();
+	}
+
+	// 주 DB 전체를 스크립트로 떠서 복제본에 그대로 적용
+	private void replicate() throws SQLException, IOException {
+		Path script = Files.createTempFile("replica", ".sql");
+		try (Connection primary = DriverManager.getConnection(PRIMARY_URL, "sa", "");
+			 Statement statement = primary.createStatement()) {
+			statement.execute("SCRIPT TO '" + script + "'");
+		}
+		try (Connection replica = DriverManager.getConnection(REPLICA_URL, "sa", "");
+			 Statement statement = replica.createStatement()) {
+			statement.execute("DROP ALL OBJECTS");
+			statement.execute("RUNSCRIPT FROM '" + script + "'");
+		} finally {
+			Files.deleteIfExists(script);
+		}
+	}
+
+	private void authenticate(String username) {
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+				username, null, AuthorityUtils.createAuthorityList("USER")));
+	}
+
+	private PostDto.CreateRequest createRequest(String title) {
+		return PostDto.CreateRequest.builder()
+				.title(title)
+				.content("내용")
+				.performanceId(performanceId)
+				.build();
+	}
+
+	private static User user(String username) {
+		return User.builder()
+				.username(username)
+				.email(username + "@example.com")
+				.password("password")
+				.role(User.Role.USER)
+				.build();
+	}
+}
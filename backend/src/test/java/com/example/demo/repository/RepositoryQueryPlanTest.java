@@ -0,0 +1,254 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.Comment;
+import com.example.demo.entity.Performance;
+import com.example.demo.entity.Post;
+import com.example.demo.entity.User;
+import com.example.demo.entity.Vote;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 저장소에 선언한 모든 쿼리를 한 번씩 실행해서 SQL을 모으고, EXPLAIN 결과에 전체 테이블 스캔이 있으면 실패
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:query-plan;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=PostgreSQL",
+		"spring.jpa.properties.hibernate.session_factory.statement_inspector="
+				+ "com.example.demo.repository.RepositoryQueryPlanTest$SqlRecorder"
+})
+class RepositoryQueryPlanTest {
+
+	private static final List<Class<?>> REPOSITORIES = List.of(UserRepository.class, PerformanceRepository.class,
+			PostRepository.class, CommentRepository.class, VoteRepository.class);
+
+	// 부분 문자열 검색 (LIKE '%..%')은 B-tree 인덱스로 줄일 수 없음
+	private static final Set<String> FULL_SCAN_ALLOWED = Set.of(
+			"PostRepository.findByTitleContainingIgnoreCaseOrContentContainingIgnoreCase",
+			"PerformanceRepository.findByGenreContainingIgnoreCase",
+			"PerformanceRepository.findByTitleContainingIgnoreCase");
+
+	@Autowired
+	private ApplicationContext applicationContext;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private PerformanceRepository performanceRepository;
+
+	@Autowired
+	private PostRepository postRepository;
+
+	@Autowired
+	private CommentRepository commentRepository;
+
+	@Autowired
+	private VoteRepository voteRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		if (postRepository.count() > 0) {
+			return;
+		}
+		List<User> users = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			users.add(User.builder()
+					.username("plan_" + i)
+					.email("plan_" + i + "@example.com")
+					.password("password")
+					.role(User.Role.USER)
+					.build());
+		}
+		userRepository.saveAll(users);
+
+		List<Performance> performances = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			performances.add(Performance.builder()
+					.title("공연 " + i)
+					.genre("뮤지컬")
+					.startDate(LocalDate.now().minusDays(i))
+					.endDate(LocalDate.now().plusDays(i))
+					.status(Performance.Status.values()[i % Performance.Status.values().length])
+					.build());
+		}
+		performanceRepository.saveAll(performances);
+
+		List<Post> posts = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			posts.add(Post.builder()
+					.title("게시글 " + i)
+					.content("내용 " + i)
+					.user(users.get(i % users.size()))
+					.performance(performances.get(i % performances.size()))
+					.postType(Post.PostType.values()[i % Post.PostType.values().length])
+					.build());
+		}
+		postRepository.saveAll(posts);
+
+		List<Comment> comments = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			comments.add(Comment.builder()
+					.content("댓글 " + i)
+					.user(users.get(i % users.size()))
+					.post(posts.get(i % posts.size()))
+					.build());
+		}
+		commentRepository.saveAll(comments);
+
+		List<Vote> votes = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			votes.add(Vote.builder()
+					.user(users.get(i % users.size()))
+					.post(i % 2 == 0 ? posts.get(i) : null)
+					.comment(i % 2 == 0 ? null : comments.get(i))
+					.voteType(Vote.VoteType.values()[i % Vote.VoteType.values().length])
+					.build());
+		}
+		voteRepository.saveAll(votes);
+
+		// 행 수/분포 통계를 갱신해서 실제 데이터가 있을 때의 실행 계획을 봄
+		jdbcTemplate.execute("ANALYZE");
+	}
+
+	@Test
+	void everyRepositoryQueryUsesAnIndex() {
+		List<String> fullScans = new ArrayList<>();
+
+		for (Class<?> repositoryType : REPOSITORIES) {
+			Object repository = applicationContext.getBean(repositoryType);
+			List<Method> methods = List.of(repositoryType.getDeclaredMethods()).stream()
+					.filter(method -> !method.isDefault() && !method.isSynthetic())
+					.sorted(Comparator.comparing(Method::getName))
+					.toList();
+
+			for (Method method : methods) {
+				String name = repositoryType.getSimpleName() + "." + method.getName();
+				List<String> statements = capture(repository, method);
+				assertThat(statements).as(name).isNotEmpty();
+				if (FULL_SCAN_ALLOWED.contains(name)) {
+					continue;
+				}
+				for (String sql : statements) {
+					String plan = explain(sql);
+					if (plan.contains(".tableScan")) {
+						fullScans.add(name + "\n  " + plan.replace("\n", "\n  "));
+					}
+				}
+			}
+		}
+
+		assertThat(fullScans).as("full table scans").isEmpty();
+	}
+
+	// 롤백할 트랜잭션 안에서 실행 (수정 쿼리와 잠금 쿼리 포함)
+	private List<String> capture(Object repository, Method method) {
+		Object[] arguments = new Object[method.getParameterCount()];
+		Parameter[] parameters = method.getParameters();
+		for (int i = 0; i < parameters.length; i++) {
+			arguments[i] = argument(parameters[i]);
+		}
+
+		SqlRecorder.STATEMENTS.clear();
+		transactionTemplate.executeWithoutResult(status -> {
+			try {
+				method.invoke(repository, arguments);
+			} catch (IllegalAccessException | InvocationTargetException ex) {
+				throw new IllegalStateException(method.getName() + " failed", ex);
+			}
+			status.setRollbackOnly();
+		});
+		return List.copyOf(SqlRecorder.STATEMENTS);
+	}
+
+	private Object argument(Parameter parameter) {
+		Class<?> type = parameter.getType();
+		if (type == Long.class || type == long.class) {
+			return 1L;
+		}
+		if (type == Integer.class || type == int.class) {
+			return 1;
+		}
+		if (type == Boolean.class || type == boolean.class) {
+			return Boolean.FALSE;
+		}
+		if (type == String.class) {
+			return "공연";
+		}
+		if (type == LocalDateTime.class) {
+			return LocalDateTime.now();
+		}
+		if (type == LocalDate.class) {
+			return LocalDate.now();
+		}
+		if (Collection.class.isAssignableFrom(type)) {
+			return List.of(1L, 2L, 3L);
+		}
+		if (type == Pageable.class) {
+			return PageRequest.of(0, 10);
+		}
+		if (type.isEnum()) {
+			return type.getEnumConstants()[0];
+		}
+		throw new IllegalArgumentException("No sample value for " + parameter);
+	}
+
+	// 실행 계획은 값과 무관하므로 파라미터는 모두 NULL로 채움
+	private String explain(String sql) {
+		String query = sql.replaceAll("(?i)\\s+for update$", "");
+		return jdbcTemplate.execute((Connection connection) -> {
+			try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + query)) {
+				int count = statement.getParameterMetaData().getParameterCount();
+				for (int i = 1; i <= count; i++) {
+					statement.setObject(i, null);
+				}
+				StringBuilder plan = new StringBuilder();
+				try (ResultSet resultSet = statement.executeQuery()) {
+					while (resultSet.next()) {
+						plan.append(resultSet.getString(1));
+					}
+				}
+				return plan.toString();
+			}
+		});
+	}
+
+	public static class SqlRecorder implements StatementInspector {
+
+		static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+		@Override
+		public String inspect(String sql) {
+			STATEMENTS.add(sql);
+			return sql;
+		}
+	}
+}
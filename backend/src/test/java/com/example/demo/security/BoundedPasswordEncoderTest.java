@@ -0,0 +1,75 @@
+package com.example.demo.security;
+
+import com.example.demo.exception.PasswordHashingRejectedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+	private BoundedPasswordEncoder encoder;
+
+	@AfterEach
+	void tearDown() {
+		encoder.shutdown();
+	}
+
+	@Test
+	void delegatesHashingAndDetectsLowerCost() {
+		encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(6), 2, 4, 5000);
+
+		String hash = encoder.encode("password");
+
+		assertThat(encoder.matches("password", hash)).isTrue();
+		assertThat(encoder.matches("wrong", hash)).isFalse();
+		assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password"))).isTrue();
+		assertThat(encoder.upgradeEncoding(hash)).isFalse();
+	}
+
+	@Test
+	void rejectsWhenWorkerAndQueueAreFull() throws InterruptedException {
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch started = new CountDownLatch(1);
+		PasswordEncoder blocking = new PasswordEncoder() {
+			@Override
+			public String encode(CharSequence rawPassword) {
+				started.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return rawPassword.toString();
+			}
+
+			@Override
+			public boolean matches(CharSequence rawPassword, String encodedPassword) {
+				return rawPassword.toString().equals(encodedPassword);
+			}
+		};
+		encoder = new BoundedPasswordEncoder(blocking, 1, 1, 5000);
+
+		// 작업 스레드 1개 + 대기열 1개를 채움
+		ExecutorService callers = Executors.newFixedThreadPool(2);
+		callers.submit(() -> encoder.encode("first"));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		callers.submit(() -> encoder.encode("second"));
+		Thread.sleep(100);
+
+		assertThatThrownBy(() -> encoder.encode("third"))
+				.isInstanceOf(PasswordHashingRejectedException.class);
+
+		release.countDown();
+		callers.shutdown();
+		assertThat(callers.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+	}
+}
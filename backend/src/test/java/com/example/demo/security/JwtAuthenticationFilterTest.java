@@ -0,0 +1,108 @@
+package com.example.demo.security;
+
+import com.example.demo.entity.User;
+import com.example.demo.service.ReadThroughCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class JwtAuthenticationFilterTest {
+
+	private static final long USER_ID = 7L;
+
+	private final JwtTokenProvider tokenProvider = JwtTokenProviderTest.provider(60_000, 100);
+	private final UserDetailsService userDetailsService = mock(UserDetailsService.class);
+	private final TokenVersionRegistry tokenVersionRegistry = mock(TokenVersionRegistry.class);
+
+	@AfterEach
+	void clearContext() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void statelessModeBuildsPrincipalFromClaims() throws Exception {
+		JwtAuthenticationFilter filter = filter(true);
+		String token = token(0);
+
+		Authentication authentication = authenticate(filter, token);
+
+		assertThat(authentication.getPrincipal()).isInstanceOf(JwtPrincipal.class);
+		JwtPrincipal principal = (JwtPrincipal) authentication.getPrincipal();
+		assertThat(principal.getId()).isEqualTo(USER_ID);
+		assertThat(principal.getUsername()).isEqualTo("user1");
+		assertThat(principal.getAuthorities()).extracting("authority").containsExactly("USER");
+		verifyNoInteractions(userDetailsService);
+	}
+
+	@Test
+	void defaultModeLoadsPrincipalOnceThroughCache() throws Exception {
+		JwtAuthenticationFilter filter = filter(false);
+		User user = user(0);
+		when(userDetailsService.loadUserByUsername("user1")).thenReturn(user);
+		String token = token(0);
+
+		assertThat(authenticate(filter, token).getPrincipal()).isSameAs(user);
+		assertThat(authenticate(filter, token).getPrincipal()).isSameAs(user);
+
+		verify(userDetailsService, times(1)).loadUserByUsername("user1");
+	}
+
+	@Test
+	void revokedTokenIsRejectedInBothModes() throws Exception {
+		String token = token(0);
+		when(tokenVersionRegistry.currentVersion(USER_ID)).thenReturn(1);
+
+		assertThat(authenticate(filter(true), token)).isNull();
+		assertThat(authenticate(filter(false), token)).isNull();
+		verifyNoInteractions(userDetailsService);
+
+		// 폐기 이후 발급된 토큰은 그대로 통과
+		assertThat(authenticate(filter(true), token(1))).isNotNull();
+	}
+
+	private JwtAuthenticationFilter filter(boolean statelessPrincipal) {
+		JwtAuthenticationFilter filter = new JwtAuthenticationFilter(tokenProvider, userDetailsService,
+				new ReadThroughCache<>("test", 60_000, 100), tokenVersionRegistry);
+		ReflectionTestUtils.setField(filter, "statelessPrincipal", statelessPrincipal);
+		return filter;
+	}
+
+	private String token(int tokenVersion) {
+		User user = user(tokenVersion);
+		return tokenProvider.generateToken(
+				new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+	}
+
+	private static User user(int tokenVersion) {
+		return User.builder()
+				.id(USER_ID)
+				.username("user1")
+				.email("user1@example.com")
+				.password("password")
+				.role(User.Role.USER)
+				.tokenVersion(tokenVersion)
+				.build();
+	}
+
+	private static Authentication authenticate(JwtAuthenticationFilter filter, String token) throws Exception {
+		SecurityContextHolder.clearContext();
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/1");
+		request.addHeader("Authorization", "Bearer " + token);
+		filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+		return SecurityContextHolder.getContext().getAuthentication();
+	}
+}
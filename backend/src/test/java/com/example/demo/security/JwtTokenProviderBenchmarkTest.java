@@ -0,0 +1,82 @@
+package com.example.demo.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.security.Key;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 요청마다 키/파서를 만들고 서명을 검증하던 방식과 시작 시 만든 파서 + claims 캐시 비교 (16개 스레드, 토큰 1000개)
+@Tag("benchmark")
+class JwtTokenProviderBenchmarkTest {
+
+	private static final Logger log = LoggerFactory.getLogger(JwtTokenProviderBenchmarkTest.class);
+
+	private static final int THREADS = 16;
+	private static final int TOKENS = 1_000;
+	private static final int PARSES_PER_THREAD = 50_000;
+
+	@Test
+	void cachedParseOutpacesPerRequestVerification() throws Exception {
+		JwtTokenProvider provider = JwtTokenProviderTest.provider(3_600_000, TOKENS * 2);
+		List<String> tokens = new ArrayList<>();
+		for (int i = 0; i < TOKENS; i++) {
+			tokens.add(provider.generateToken(JwtTokenProviderTest.authentication("user" + i)));
+		}
+
+		// 이전: 요청마다 키와 파서를 만들고 서명 검증
+		double perRequest = run(tokens, PARSES_PER_THREAD / 50, token -> {
+			Key key = Keys.hmacShaKeyFor(JwtTokenProviderTest.SECRET.getBytes());
+			return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getSubject();
+		});
+
+		// 이후: 처음 한 번만 검증하고 이후에는 캐시 조회
+		double cached = run(tokens, PARSES_PER_THREAD, token -> provider.parseToken(token).getSubject());
+
+		log.info("token parse with {} threads: per-request {}/s, cached {}/s",
+				THREADS, Math.round(perRequest), Math.round(cached));
+		assertThat(provider.cachedTokenCount()).isEqualTo(TOKENS);
+	}
+
+	private double run(List<String> tokens, int parsesPerThread, Function<String, String> parse) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Integer>> results = new ArrayList<>();
+		for (int t = 0; t < THREADS; t++) {
+			int offset = t;
+			Callable<Integer> worker = () -> {
+				start.await();
+				int parsed = 0;
+				for (int i = 0; i < parsesPerThread; i++) {
+					if (parse.apply(tokens.get((offset * 31 + i) % tokens.size())) != null) {
+						parsed++;
+					}
+				}
+				return parsed;
+			};
+			results.add(executor.submit(worker));
+		}
+
+		long startedAt = System.nanoTime();
+		start.countDown();
+		for (Future<Integer> result : results) {
+			assertThat(result.get()).isEqualTo(parsesPerThread);
+		}
+		long elapsed = System.nanoTime() - startedAt;
+		executor.shutdown();
+		return (double) THREADS * parsesPerThread * 1_000_000_000L / elapsed;
+	}
+}
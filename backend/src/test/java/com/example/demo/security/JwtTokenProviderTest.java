@@ -0,0 +1,80 @@
+package com.example.demo.security;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+	static final String SECRET = "test-secret-key-for-jwt-token-provider-tests-must-be-at-least-64-bytes-long";
+
+	@Test
+	void parsesEachTokenOnce() {
+		JwtTokenProvider provider = provider(60_000, 100);
+		String token = provider.generateToken(authentication("user1"));
+
+		Claims claims = provider.parseToken(token);
+		assertThat(claims.getSubject()).isEqualTo("user1");
+		// 두 번째부터는 서명을 다시 검증하지 않고 캐시된 claims를 그대로 돌려줌
+		assertThat(provider.parseToken(token)).isSameAs(claims);
+		assertThat(provider.getUsernameFromToken(token)).isEqualTo("user1");
+		assertThat(provider.cachedTokenCount()).isEqualTo(1);
+
+		// 위조된 토큰은 캐시에 남지 않음
+		assertThat(provider.parseToken(tamper(token))).isNull();
+		assertThat(provider.cachedTokenCount()).isEqualTo(1);
+	}
+
+	@Test
+	void evictsTokensOnceTheirExpPasses() throws InterruptedException {
+		// exp는 초 단위로 잘리므로 최소 1초는 남도록 2초로 발급
+		JwtTokenProvider provider = provider(2_000, 100);
+		String token = provider.generateToken(authentication("user1"));
+		assertThat(provider.parseToken(token)).isNotNull();
+
+		provider.evictExpired();
+		assertThat(provider.cachedTokenCount()).isEqualTo(1);
+
+		Thread.sleep(2_100);
+		provider.evictExpired();
+		assertThat(provider.cachedTokenCount()).isZero();
+		assertThat(provider.parseToken(token)).isNull();
+		assertThat(provider.cachedTokenCount()).isZero();
+	}
+
+	@Test
+	void keepsCacheWithinConfiguredSize() {
+		JwtTokenProvider provider = provider(60_000, 2);
+
+		for (int i = 0; i < 5; i++) {
+			assertThat(provider.parseToken(provider.generateToken(authentication("user" + i)))).isNotNull();
+			assertThat(provider.cachedTokenCount()).isLessThanOrEqualTo(2);
+		}
+	}
+
+	// 서명의 첫 글자를 다른 글자로 바꿈
+	private static String tamper(String token) {
+		int signature = token.lastIndexOf('.') + 1;
+		char replaced = token.charAt(signature) == 'A' ? 'B' : 'A';
+		return token.substring(0, signature) + replaced + token.substring(signature + 1);
+	}
+
+	static JwtTokenProvider provider(int expirationMillis, int cacheSize) {
+		JwtTokenProvider provider = new JwtTokenProvider();
+		ReflectionTestUtils.setField(provider, "jwtSecret", SECRET);
+		ReflectionTestUtils.setField(provider, "jwtExpirationMs", expirationMillis);
+		ReflectionTestUtils.setField(provider, "claimsCacheSize", cacheSize);
+		provider.init();
+		return provider;
+	}
+
+	static UsernamePasswordAuthenticationToken authentication(String username) {
+		User principal = new User(username, "password", AuthorityUtils.createAuthorityList("USER"));
+		return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+	}
+}
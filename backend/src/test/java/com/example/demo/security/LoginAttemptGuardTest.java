@@ -0,0 +1,96 @@
+package com.example.demo.security;
+
+import com.example.demo.service.MutableClock;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoginAttemptGuardTest {
+
+	private static final long WINDOW_MILLIS = Duration.ofMinutes(10).toMillis();
+
+	private final MutableClock clock = new MutableClock(LocalDate.of(2030, 1, 1));
+
+	@Test
+	void blocksUsernameAfterLimitFromAnyIp() {
+		LoginAttemptGuard guard = new LoginAttemptGuard(3, 100, WINDOW_MILLIS, clock);
+
+		guard.recordFailure("Alice", "10.0.0.1");
+		guard.recordFailure("alice", "10.0.0.2");
+		assertThat(guard.isBlocked("alice", "10.0.0.3")).isFalse();
+
+		guard.recordFailure("alice", "10.0.0.3");
+		// 사용자명은 대소문자를 구분하지 않고, IP를 바꿔도 차단
+		assertThat(guard.isBlocked("ALICE", "10.0.0.4")).isTrue();
+		assertThat(guard.isBlocked("bob", "10.0.0.1")).isFalse();
+	}
+
+	@Test
+	void blocksIpAfterLimitAcrossUsernames() {
+		LoginAttemptGuard guard = new LoginAttemptGuard(100, 3, WINDOW_MILLIS, clock);
+
+		for (int i = 0; i < 3; i++) {
+			guard.recordFailure("user" + i, "10.0.0.1");
+		}
+
+		assertThat(guard.isBlocked("someone-else", "10.0.0.1")).isTrue();
+		assertThat(guard.isBlocked("someone-else", "10.0.0.2")).isFalse();
+	}
+
+	@Test
+	void failuresLeaveTheWindowOneByOne() {
+		LoginAttemptGuard guard = new LoginAttemptGuard(3, 100, WINDOW_MILLIS, clock);
+
+		guard.recordFailure("alice", "10.0.0.1");
+		clock.advance(Duration.ofMinutes(4));
+		guard.recordFailure("alice", "10.0.0.1");
+		clock.advance(Duration.ofMinutes(4));
+		guard.recordFailure("alice", "10.0.0.1");
+		assertThat(guard.isBlocked("alice", "10.0.0.1")).isTrue();
+
+		// 첫 실패만 창에서 빠지고 나머지 두 번은 남음
+		clock.advance(Duration.ofMinutes(2));
+		assertThat(guard.isBlocked("alice", "10.0.0.1")).isFalse();
+		guard.recordFailure("alice", "10.0.0.1");
+		assertThat(guard.isBlocked("alice", "10.0.0.1")).isTrue();
+
+		clock.advance(Duration.ofMinutes(4));
+		assertThat(guard.isBlocked("alice", "10.0.0.1")).isFalse();
+	}
+
+	@Test
+	void successResetsUsernameButNotIp() {
+		LoginAttemptGuard guard = new LoginAttemptGuard(2, 2, WINDOW_MILLIS, clock);
+
+		guard.recordFailure("alice", "10.0.0.1");
+		guard.recordFailure("alice", "10.0.0.2");
+		assertThat(guard.isBlocked("alice", "10.0.0.3")).isTrue();
+
+		guard.recordSuccess("alice");
+		assertThat(guard.isBlocked("alice", "10.0.0.3")).isFalse();
+
+		guard.recordFailure("bob", "10.0.0.1");
+		assertThat(guard.isBlocked("alice", "10.0.0.1")).isTrue();
+	}
+
+	@Test
+	void purgeDropsKeysWithNoFailureInWindow() {
+		LoginAttemptGuard guard = new LoginAttemptGuard(5, 20, WINDOW_MILLIS, clock);
+
+		guard.recordFailure("alice", "10.0.0.1");
+		clock.advance(Duration.ofMinutes(5));
+		guard.recordFailure("bob", "10.0.0.2");
+		assertThat(guard.trackedKeyCount()).isEqualTo(4);
+
+		clock.advance(Duration.ofMinutes(5));
+		guard.purgeExpired();
+		assertThat(guard.trackedKeyCount()).isEqualTo(2);
+
+		clock.advance(Duration.ofMinutes(5));
+		guard.purgeExpired();
+		assertThat(guard.trackedKeyCount()).isZero();
+	}
+}
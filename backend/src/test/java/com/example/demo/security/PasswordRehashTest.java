@@ -0,0 +1,56 @@
+package com.example.demo.security;
+
+import com.example.demo.entity.User;
+import com.example.demo.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "app.security.bcrypt.strength=5")
+class PasswordRehashTest {
+
+	@Autowired
+	private AuthenticationManager authenticationManager;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	void loginRehashesPasswordStoredWithLowerCost() {
+		String username = "rehash_" + System.nanoTime();
+		String weakHash = new BCryptPasswordEncoder(4).encode("password");
+		userRepository.save(User.builder()
+				.username(username)
+				.email(username + "@example.com")
+				.password(weakHash)
+				.role(User.Role.USER)
+				.build());
+
+		// 실패한 로그인은 해시를 바꾸지 않음
+		assertThatThrownBy(() -> authenticationManager.authenticate(
+				new UsernamePasswordAuthenticationToken(username, "wrong")))
+				.isInstanceOf(BadCredentialsException.class);
+		assertThat(storedHash(username)).isEqualTo(weakHash);
+
+		authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(username, "password"));
+
+		String upgraded = storedHash(username);
+		assertThat(upgraded).startsWith("$2a$05$");
+		assertThat(new BCryptPasswordEncoder().matches("password", upgraded)).isTrue();
+
+		// 이미 설정값으로 해시된 비밀번호는 다시 바꾸지 않음
+		authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(username, "password"));
+		assertThat(storedHash(username)).isEqualTo(upgraded);
+	}
+
+	private String storedHash(String username) {
+		return userRepository.findByUsername(username).orElseThrow().getPassword();
+	}
+}
@@ -0,0 +1,108 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.CommentDto;
+import com.example.demo.entity.Comment;
+import com.example.demo.entity.Performance;
+import com.example.demo.entity.Post;
+import com.example.demo.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class CommentServiceQueryCountTest {
+
+	private static final int THREADS = 200;
+	private static final int THREAD_DEPTH = 5;
+
+	@Autowired
+	private CommentService commentService;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Long postId;
+
+	@BeforeEach
+	void setUp() {
+		Performance performance = Performance.builder()
+				.title("테스트 공연")
+				.startDate(LocalDate.now())
+				.endDate(LocalDate.now().plusDays(30))
+				.status(Performance.Status.ONGOING)
+				.build();
+		entityManager.persist(performance);
+
+		User user = User.builder()
+				.username("comment_tree_user")
+				.email("comment_tree_user@example.com")
+				.password("password")
+				.role(User.Role.USER)
+				.build();
+		entityManager.persist(user);
+
+		Post post = Post.builder()
+				.title("댓글 트리 테스트")
+				.content("내용")
+				.user(user)
+				.performance(performance)
+				.build();
+		entityManager.persist(post);
+		postId = post.getId();
+
+		// 최상위 댓글 200개 x 깊이 5단계 = 댓글 1,000개
+		for (int i = 0; i < THREADS; i++) {
+			Comment parent = null;
+			for (int depth = 0; depth < THREAD_DEPTH; depth++) {
+				Comment comment = Comment.builder()
+						.content("댓글 " + i + "-" + depth)
+						.user(user)
+						.post(post)
+						.parent(parent)
+						.build();
+				comment.setDepth();
+				entityManager.persist(comment);
+				parent = comment;
+			}
+		}
+
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Test
+	void commentTreeIsLoadedWithSingleStatement() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		List<CommentDto.CommentResponse> tree = commentService.getCommentsByPost(postId);
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(tree).hasSize(THREADS);
+		assertThat(tree.stream().mapToInt(this::countNodes).sum()).isEqualTo(THREADS * THREAD_DEPTH);
+		assertThat(maxDepth(tree.get(0))).isEqualTo(THREAD_DEPTH - 1);
+	}
+
+	private int countNodes(CommentDto.CommentResponse node) {
+		return 1 + node.getReplies().stream().mapToInt(this::countNodes).sum();
+	}
+
+	private int maxDepth(CommentDto.CommentResponse node) {
+		return node.getReplies().stream().mapToInt(this::maxDepth).max().orElse(node.getDepth());
+	}
+}
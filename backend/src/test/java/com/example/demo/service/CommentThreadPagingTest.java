@@ -0,0 +1,179 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.CommentDto;
+import com.example.demo.dto.CursorDto;
+import com.example.demo.entity.Comment;
+import com.example.demo.entity.Performance;
+import com.example.demo.entity.Post;
+import com.example.demo.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class CommentThreadPagingTest {
+
+	private static final LocalDateTime THREAD_TIME = LocalDateTime.of(2030, 1, 1, 10, 0);
+	private static final LocalDateTime REPLY_TIME = LocalDateTime.of(2030, 1, 1, 11, 0);
+
+	@Autowired
+	private CommentService commentService;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private User user;
+	private Post post;
+	private final List<Long> threadIds = new ArrayList<>();
+	private final List<Long> firstThreadReplyIds = new ArrayList<>();
+	private Long secondThreadReplyId;
+
+	@BeforeEach
+	void setUp() {
+		Performance performance = Performance.builder()
+				.title("테스트 공연")
+				.startDate(LocalDate.now())
+				.endDate(LocalDate.now().plusDays(30))
+				.status(Performance.Status.ONGOING)
+				.build();
+		entityManager.persist(performance);
+
+		user = User.builder()
+				.username("thread_paging_user")
+				.email("thread_paging_user@example.com")
+				.password("password")
+				.role(User.Role.USER)
+				.build();
+		entityManager.persist(user);
+
+		post = Post.builder()
+				.title("스레드 페이지 테스트")
+				.content("내용")
+				.user(user)
+				.performance(performance)
+				.build();
+		entityManager.persist(post);
+
+		// 최상위 댓글 5개, 첫 스레드에 대댓글 3개(첫 대댓글에는 다시 답글 1개), 둘째 스레드에 대댓글 1개
+		List<Comment> threads = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			threads.add(comment("스레드 " + i, null));
+		}
+		List<Comment> replies = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			replies.add(comment("대댓글 " + i, threads.get(0)));
+		}
+		Comment nested = comment("답글의 답글", replies.get(0));
+		Comment secondThreadReply = comment("둘째 스레드 대댓글", threads.get(1));
+		entityManager.flush();
+
+		// 같은 시각에 작성된 댓글끼리는 id 순서로 이어져야 함
+		threads.forEach(thread -> threadIds.add(thread.getId()));
+		replies.forEach(reply -> firstThreadReplyIds.add(reply.getId()));
+		secondThreadReplyId = secondThreadReply.getId();
+		setCreatedAt(threadIds, THREAD_TIME);
+		List<Long> allReplyIds = new ArrayList<>(firstThreadReplyIds);
+		allReplyIds.add(nested.getId());
+		allReplyIds.add(secondThreadReplyId);
+		setCreatedAt(allReplyIds, REPLY_TIME);
+		entityManager.clear();
+	}
+
+	@Test
+	void threadPagesFollowIdOrderAcrossTiedTimestamps() {
+		CursorDto.SliceResponse<CommentDto.CommentResponse> first = commentService.getCommentThreads(post.getId(), null, 3, 2);
+
+		assertThat(first.getContent()).extracting(CommentDto.CommentResponse::getId)
+				.containsExactlyElementsOf(threadIds.subList(0, 3));
+		assertThat(first.isHasNext()).isTrue();
+		assertThat(first.getNextCursor()).isNotNull();
+
+		CursorDto.SliceResponse<CommentDto.CommentResponse> second =
+				commentService.getCommentThreads(post.getId(), first.getNextCursor(), 3, 2);
+
+		assertThat(second.getContent()).extracting(CommentDto.CommentResponse::getId)
+				.containsExactlyElementsOf(threadIds.subList(3, 5));
+		assertThat(second.isHasNext()).isFalse();
+		assertThat(second.getNextCursor()).isNull();
+	}
+
+	@Test
+	void threadsCarryReplyCountsAndLimitedPreviews() {
+		List<CommentDto.CommentResponse> threads = commentService.getCommentThreads(post.getId(), null, 10, 2).getContent();
+
+		CommentDto.CommentResponse firstThread = threads.get(0);
+		assertThat(firstThread.getReplyCount()).isEqualTo(3);
+		assertThat(firstThread.getReplies()).extracting(CommentDto.CommentResponse::getId)
+				.containsExactlyElementsOf(firstThreadReplyIds.subList(0, 2));
+		// 미리보기 대댓글도 자기 답글 수를 가짐
+		assertThat(firstThread.getReplies().get(0).getReplyCount()).isEqualTo(1);
+		assertThat(firstThread.getReplies().get(1).getReplyCount()).isZero();
+
+		CommentDto.CommentResponse secondThread = threads.get(1);
+		assertThat(secondThread.getReplyCount()).isEqualTo(1);
+		assertThat(secondThread.getReplies()).extracting(CommentDto.CommentResponse::getId)
+				.containsExactly(secondThreadReplyId);
+
+		assertThat(threads.subList(2, 5)).allSatisfy(thread -> {
+			assertThat(thread.getReplyCount()).isZero();
+			assertThat(thread.getReplies()).isEmpty();
+		});
+
+		// 답글의 답글은 스레드 미리보기에 들어가지 않음
+		assertThat(commentService.getCommentThreads(post.getId(), null, 10, 20).getContent().get(0).getReplies())
+				.extracting(CommentDto.CommentResponse::getId)
+				.containsExactlyElementsOf(firstThreadReplyIds);
+		assertThat(commentService.getCommentThreads(post.getId(), null, 10, 0).getContent())
+				.allSatisfy(thread -> assertThat(thread.getReplies()).isEmpty());
+	}
+
+	@Test
+	void replyPagesFollowIdOrderAcrossTiedTimestamps() {
+		Long threadId = threadIds.get(0);
+
+		CursorDto.SliceResponse<CommentDto.CommentResponse> first = commentService.getReplies(threadId, null, 2);
+
+		assertThat(first.getContent()).extracting(CommentDto.CommentResponse::getId)
+				.containsExactlyElementsOf(firstThreadReplyIds.subList(0, 2));
+		assertThat(first.getContent()).extracting(CommentDto.CommentResponse::getReplyCount)
+				.containsExactly(1, 0);
+		assertThat(first.isHasNext()).isTrue();
+
+		CursorDto.SliceResponse<CommentDto.CommentResponse> second = commentService.getReplies(threadId, first.getNextCursor(), 2);
+
+		assertThat(second.getContent()).extracting(CommentDto.CommentResponse::getId)
+				.containsExactly(firstThreadReplyIds.get(2));
+		assertThat(second.isHasNext()).isFalse();
+		assertThat(second.getNextCursor()).isNull();
+	}
+
+	private Comment comment(String content, Comment parent) {
+		Comment comment = Comment.builder()
+				.content(content)
+				.user(user)
+				.post(post)
+				.parent(parent)
+				.build();
+		comment.setDepth();
+		entityManager.persist(comment);
+		return comment;
+	}
+
+	private void setCreatedAt(List<Long> ids, LocalDateTime createdAt) {
+		entityManager.createNativeQuery("UPDATE comments SET created_at = :createdAt WHERE id IN (:ids)")
+				.setParameter("createdAt", createdAt)
+				.setParameter("ids", ids)
+				.executeUpdate();
+	}
+}
@@ -0,0 +1,211 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.CommentDto;
+import com.example.demo.dto.CursorDto;
+import com.example.demo.dto.PerformanceDto;
+import com.example.demo.dto.PostDto;
+import com.example.demo.entity.Comment;
+import com.example.demo.entity.Performance;
+import com.example.demo.entity.Post;
+import com.example.demo.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 정렬 키가 모두 같은 행 5개를 3개씩 두 페이지로 나눠 읽어도 빠지거나 겹치는 행이 없어야 함
+@SpringBootTest
+@Transactional
+class KeysetPaginationTest {
+
+	private static final int ROWS = 5;
+	private static final int PAGE_SIZE = 3;
+	// 다른 테스트가 만든 공연보다 앞에 오도록 먼 미래 시각
+	private static final LocalDateTime TIED_AT = LocalDateTime.of(2099, 1, 1, 9, 0);
+
+	@Autowired
+	private PostService postService;
+
+	@Autowired
+	private PerformanceService performanceService;
+
+	@Autowired
+	private CommentService commentService;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private User user;
+	private Performance performance;
+
+	@BeforeEach
+	void setUp() {
+		user = User.builder()
+				.username("keyset_user")
+				.email("keyset_user@example.com")
+				.password("password")
+				.role(User.Role.USER)
+				.build();
+		entityManager.persist(user);
+
+		performance = performance("키셋 테스트 공연");
+	}
+
+	@Test
+	void latestPerformancesWalkTiedTimestampsById() {
+		List<Long> ids = new ArrayList<>(List.of(performance.getId()));
+		for (int i = 1; i < ROWS; i++) {
+			ids.add(performance("키셋 테스트 공연 " + i).getId());
+		}
+		setTimestamp("performances", "created_at", ids, TIED_AT);
+		entityManager.clear();
+
+		List<PerformanceDto.PerformanceSummary> walked = walk(performanceService::getPerformancesWithCursor,
+				PerformanceDto.PerformanceSummary::getId);
+
+		assertThat(walked.subList(0, ROWS)).extracting(PerformanceDto.PerformanceSummary::getId)
+				.containsExactlyElementsOf(descending(ids));
+	}
+
+	@Test
+	void latestAndTopPostsWalkTiedKeysById() {
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < ROWS; i++) {
+			Post post = Post.builder()
+					.title("게시글 " + i)
+					.content("내용")
+					.user(user)
+					.performance(performance)
+					.build();
+			entityManager.persist(post);
+			ids.add(post.getId());
+		}
+		entityManager.flush();
+		setTimestamp("posts", "created_at", ids, TIED_AT);
+		entityManager.createNativeQuery("UPDATE posts SET like_count = 7 WHERE id IN (:ids)")
+				.setParameter("ids", ids)
+				.executeUpdate();
+		entityManager.clear();
+
+		Long performanceId = performance.getId();
+		assertThat(walk((after, size) -> postService.getPostsByPerformanceWithCursor(performanceId, after, size, "latest"),
+				PostDto.PostSummary::getId))
+				.extracting(PostDto.PostSummary::getId).containsExactlyElementsOf(descending(ids));
+		assertThat(walk((after, size) -> postService.getPostsByPerformanceWithCursor(performanceId, after, size, "likes"),
+				PostDto.PostSummary::getId))
+				.extracting(PostDto.PostSummary::getId).containsExactlyElementsOf(descending(ids));
+	}
+
+	@Test
+	void userCommentsWalkTiedTimestampsByIdWithReplyCounts() {
+		Post post = Post.builder()
+				.title("댓글 대상")
+				.content("내용")
+				.user(user)
+				.performance(performance)
+				.build();
+		entityManager.persist(post);
+
+		List<Comment> comments = new ArrayList<>();
+		for (int i = 0; i < ROWS; i++) {
+			Comment comment = Comment.builder()
+					.content("댓글 " + i)
+					.user(user)
+					.post(post)
+					.build();
+			comment.setDepth();
+			entityManager.persist(comment);
+			comments.add(comment);
+		}
+
+		// 다른 사용자가 첫 페이지 마지막 행과 다음 페이지 첫 행에 답글
+		User other = User.builder()
+				.username("keyset_other")
+				.email("keyset_other@example.com")
+				.password("password")
+				.role(User.Role.USER)
+				.build();
+		entityManager.persist(other);
+		List<Long> ids = comments.stream().map(Comment::getId).toList();
+		List<Long> expected = descending(ids);
+		Long lastOnFirstPage = expected.get(PAGE_SIZE - 1);
+		Long firstOnSecondPage = expected.get(PAGE_SIZE);
+		for (Comment parent : comments) {
+			if (parent.getId().equals(lastOnFirstPage) || parent.getId().equals(firstOnSecondPage)) {
+				Comment reply = Comment.builder()
+						.content("답글")
+						.user(other)
+						.post(post)
+						.parent(parent)
+						.build();
+				reply.setDepth();
+				entityManager.persist(reply);
+			}
+		}
+		entityManager.flush();
+		setTimestamp("comments", "created_at", ids, TIED_AT);
+		entityManager.clear();
+
+		List<CommentDto.CommentSummary> walked = walk(
+				(after, size) -> commentService.getCommentsByUserWithCursor(user.getId(), after, size),
+				CommentDto.CommentSummary::getId);
+
+		assertThat(walked).extracting(CommentDto.CommentSummary::getId).containsExactlyElementsOf(expected);
+		assertThat(walked).allSatisfy(summary -> assertThat(summary.getReplyCount())
+				.isEqualTo(summary.getId().equals(lastOnFirstPage) || summary.getId().equals(firstOnSecondPage) ? 1 : 0));
+	}
+
+	// 두 페이지를 이어서 읽은 결과 (첫 페이지는 다음 페이지가 있고, 덜 찬 페이지는 마지막이어야 함)
+	private <T> List<T> walk(BiFunction<String, Integer, CursorDto.SliceResponse<T>> fetch, Function<T, Long> idOf) {
+		CursorDto.SliceResponse<T> first = fetch.apply(null, PAGE_SIZE);
+		assertThat(first.getContent()).hasSize(PAGE_SIZE);
+		assertThat(first.isHasNext()).isTrue();
+		assertThat(first.getNextCursor()).isNotNull();
+
+		CursorDto.SliceResponse<T> second = fetch.apply(first.getNextCursor(), PAGE_SIZE);
+		if (second.getContent().size() < PAGE_SIZE) {
+			assertThat(second.isHasNext()).isFalse();
+			assertThat(second.getNextCursor()).isNull();
+		}
+
+		List<T> rows = new ArrayList<>(first.getContent());
+		rows.addAll(second.getContent());
+		assertThat(rows).extracting(idOf).doesNotHaveDuplicates();
+		return rows;
+	}
+
+	private Performance performance(String title) {
+		Performance saved = Performance.builder()
+				.title(title)
+				.startDate(LocalDate.now())
+				.endDate(LocalDate.now().plusDays(30))
+				.status(Performance.Status.ONGOING)
+				.build();
+		entityManager.persist(saved);
+		entityManager.flush();
+		return saved;
+	}
+
+	private void setTimestamp(String table, String column, List<Long> ids, LocalDateTime value) {
+		entityManager.createNativeQuery("UPDATE " + table + " SET " + column + " = :value WHERE id IN (:ids)")
+				.setParameter("value", value)
+				.setParameter("ids", ids)
+				.executeUpdate();
+	}
+
+	private static List<Long> descending(List<Long> ids) {
+		return ids.stream().sorted(Comparator.reverseOrder()).toList();
+	}
+}
@@ -0,0 +1,42 @@
+package com.example.demo.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+// 테스트에서 날짜/시각을 옮길 수 있는 시계
+public class MutableClock extends Clock {
+
+	private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+	private volatile Instant instant;
+
+	public MutableClock(LocalDate date) {
+		setDate(date);
+	}
+
+	public void setDate(LocalDate date) {
+		instant = date.atTime(12, 0).atZone(ZONE).toInstant();
+	}
+
+	public void advance(Duration duration) {
+		instant = instant.plus(duration);
+	}
+
+	@Override
+	public ZoneId getZone() {
+		return ZONE;
+	}
+
+	@Override
+	public Clock withZone(ZoneId zone) {
+		return Clock.fixed(instant, zone);
+	}
+
+	@Override
+	public Instant instant() {
+		return instant;
+	}
+}
@@ -0,0 +1,162 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.PerformanceDto;
+import com.example.demo.entity.Performance;
+import com.example.demo.repository.PerformanceRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "app.performance.status-transition.lock-poll-ms=50")
+class PerformanceStatusSchedulerTest {
+
+	@TestConfiguration
+	static class ClockConfig {
+
+		@Bean
+		@Primary
+		MutableClock testClock() {
+			return new MutableClock(LocalDate.of(2030, 3, 1));
+		}
+	}
+
+	@Autowired
+	private PerformanceStatusScheduler performanceStatusScheduler;
+
+	@Autowired
+	private PerformanceService performanceService;
+
+	@Autowired
+	private PerformanceRepository performanceRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private MutableClock clock;
+
+	@Test
+	void movesPerformancesAcrossDayBoundaries() {
+		clock.setDate(LocalDate.of(2030, 3, 9));
+		Long showId = save("레미제라블", LocalDate.of(2030, 3, 10), LocalDate.of(2030, 3, 12), Performance.Status.UPCOMING);
+		Long cancelledId = save("취소된 공연", LocalDate.of(2030, 3, 10), LocalDate.of(2030, 3, 12), Performance.Status.CANCELLED);
+
+		performanceStatusScheduler.transition();
+		assertThat(statusOf(showId)).isEqualTo(Performance.Status.UPCOMING);
+		assertThat(upcomingIds()).contains(showId);
+
+		clock.setDate(LocalDate.of(2030, 3, 10));
+		assertThat(performanceStatusScheduler.transition()).isPositive();
+		assertThat(statusOf(showId)).isEqualTo(Performance.Status.ONGOING);
+		assertThat(upcomingIds()).doesNotContain(showId);
+		assertThat(ongoingIds()).contains(showId);
+
+		// 같은 날 다시 실행해도 바뀌는 행이 없어야 함
+		assertThat(performanceStatusScheduler.transition()).isZero();
+		assertThat(statusOf(showId)).isEqualTo(Performance.Status.ONGOING);
+
+		clock.setDate(LocalDate.of(2030, 3, 13));
+		performanceStatusScheduler.transition();
+		assertThat(statusOf(showId)).isEqualTo(Performance.Status.COMPLETED);
+		assertThat(ongoingIds()).doesNotContain(showId);
+		assertThat(performanceService.getCompletedPerformances(null, 100).getContent())
+				.extracting(PerformanceDto.PerformanceSummary::getId)
+				.contains(showId);
+
+		assertThat(statusOf(cancelledId)).isEqualTo(Performance.Status.CANCELLED);
+	}
+
+	@Test
+	void skipsTransitionWhileAnotherInstanceHoldsLock() throws Exception {
+		clock.setDate(LocalDate.of(2030, 6, 1));
+		Long showId = save("시카고", LocalDate.of(2030, 6, 1), LocalDate.of(2030, 6, 30), Performance.Status.UPCOMING);
+		assertThat(upcomingIds()).contains(showId);
+
+		SchedulerLockService otherInstance = new SchedulerLockService(jdbcTemplate);
+		assertThat(otherInstance.tryAcquire(PerformanceStatusScheduler.LOCK_NAME, Duration.ofMinutes(5))).isTrue();
+
+		// 잠금을 못 잡은 서버는 전환하지 않고 잠금이 풀릴 때까지 기다림
+		CompletableFuture<Integer> waiting = CompletableFuture.supplyAsync(performanceStatusScheduler::transition);
+		Thread.sleep(300);
+		assertThat(waiting).isNotDone();
+		assertThat(statusOf(showId)).isEqualTo(Performance.Status.UPCOMING);
+
+		// 잠금을 가진 서버가 전환을 마치고 해제하면 그 결과로 목록을 다시 만듦
+		performanceRepository.markOngoing(LocalDate.of(2030, 6, 1));
+		otherInstance.release(PerformanceStatusScheduler.LOCK_NAME);
+
+		assertThat(waiting.get(10, TimeUnit.SECONDS)).isZero();
+		assertThat(statusOf(showId)).isEqualTo(Performance.Status.ONGOING);
+		assertThat(upcomingIds()).doesNotContain(showId);
+		assertThat(ongoingIds()).contains(showId);
+	}
+
+	@Test
+	void stopsWaitingOnceLockLeaseExpires() throws Exception {
+		clock.setDate(LocalDate.of(2030, 7, 1));
+		Long showId = save("맘마미아", LocalDate.of(2030, 7, 1), LocalDate.of(2030, 7, 31), Performance.Status.UPCOMING);
+
+		// 잠금을 잡은 서버가 해제하지 못하고 죽은 경우
+		SchedulerLockService crashedInstance = new SchedulerLockService(jdbcTemplate);
+		assertThat(crashedInstance.tryAcquire(PerformanceStatusScheduler.LOCK_NAME, Duration.ofMillis(500))).isTrue();
+
+		assertThat(performanceStatusScheduler.transition()).isZero();
+		assertThat(statusOf(showId)).isEqualTo(Performance.Status.UPCOMING);
+
+		performanceStatusScheduler.transition();
+		assertThat(statusOf(showId)).isEqualTo(Performance.Status.ONGOING);
+	}
+
+	@Test
+	void createdPerformanceStartsWithStatusForCurrentDate() {
+		clock.setDate(LocalDate.of(2030, 9, 15));
+
+		PerformanceDto.PerformanceResponse response = performanceService.createPerformance(PerformanceDto.CreateRequest.builder()
+				.title("위키드")
+				.startDate(LocalDate.of(2030, 9, 1))
+				.endDate(LocalDate.of(2030, 10, 31))
+				.status(Performance.Status.UPCOMING)
+				.build());
+
+		assertThat(response.getStatus()).isEqualTo(Performance.Status.ONGOING);
+	}
+
+	private Long save(String title, LocalDate startDate, LocalDate endDate, Performance.Status status) {
+		// 스케줄러를 거치지 않고 저장해서 전날 상태를 그대로 남김
+		return performanceRepository.save(Performance.builder()
+				.title(title)
+				.startDate(startDate)
+				.endDate(endDate)
+				.status(status)
+				.build()).getId();
+	}
+
+	private Performance.Status statusOf(Long performanceId) {
+		return performanceRepository.findById(performanceId).orElseThrow().getStatus();
+	}
+
+	private List<Long> upcomingIds() {
+		return performanceService.getUpcomingPerformances(PageRequest.of(0, 1000)).getContent().stream()
+				.map(PerformanceDto.PerformanceSummary::getId)
+				.toList();
+	}
+
+	private List<Long> ongoingIds() {
+		return performanceService.getOngoingPerformances(PageRequest.of(0, 1000)).getContent().stream()
+				.map(PerformanceDto.PerformanceSummary::getId)
+				.toList();
+	}
+}
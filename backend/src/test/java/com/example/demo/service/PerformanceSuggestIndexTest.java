@@ -0,0 +1,109 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.PerformanceDto;
+import com.example.demo.entity.Performance;
+import com.example.demo.repository.PerformanceRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class PerformanceSuggestIndexTest {
+
+	private static final Logger log = LoggerFactory.getLogger(PerformanceSuggestIndexTest.class);
+
+	private static final String[] TITLE_WORDS = {
+			"레미제라블", "오페라의", "유령", "시카고", "위키드", "맘마미아", "지킬앤하이드", "렌트", "캣츠", "엘리자벳",
+			"모차르트", "드라큘라", "프랑켄슈타인", "광화문연가", "영웅", "명성황후", "노트르담", "스위니토드", "킹키부츠", "헤드윅"
+	};
+
+	@Test
+	void decomposesHangulIntoBasicJamo() {
+		assertThat(PerformanceSuggestIndex.normalize("과 닭")).isEqualTo("ㄱㅗㅏ ㄷㅏㄹㄱ");
+		assertThat(PerformanceSuggestIndex.normalize("  Wicked!!  2024 ")).isEqualTo("wicked 2024");
+	}
+
+	@Test
+	void matchesSyllableStillBeingTyped() {
+		PerformanceSuggestIndex index = newIndex();
+		index.index(performance(1L, "레미제라블", "뮤지컬", "블루스퀘어"));
+		index.index(performance(2L, "렌트", "뮤지컬", "코엑스아티움"));
+
+		// "렘"은 "레미"를 입력하는 도중의 상태
+		assertThat(titles(index.suggest("렘", 10))).containsExactly("레미제라블");
+		assertThat(titles(index.suggest("레", 10))).containsExactly("렌트", "레미제라블");
+	}
+
+	@Test
+	void ranksTitlePrefixAboveWordAndAttributeMatches() {
+		PerformanceSuggestIndex index = newIndex();
+		index.index(performance(1L, "오페라의 유령", "뮤지컬", "샤롯데씨어터"));
+		index.index(performance(2L, "유령신부", "연극", "대학로"));
+		index.index(performance(3L, "시카고", "뮤지컬", "유령극장"));
+
+		assertThat(titles(index.suggest("유령", 10))).containsExactly("유령신부", "오페라의 유령", "시카고");
+	}
+
+	@Test
+	void reflectsUpdatesAndDeletes() {
+		PerformanceSuggestIndex index = newIndex();
+		index.index(performance(1L, "캣츠", "뮤지컬", "세종문화회관"));
+		index.index(performance(2L, "캣츠 내한", "뮤지컬", "예술의전당"));
+
+		index.index(performance(1L, "위키드", "뮤지컬", "블루스퀘어"));
+		assertThat(titles(index.suggest("캣", 10))).containsExactly("캣츠 내한");
+		assertThat(titles(index.suggest("위키", 10))).containsExactly("위키드");
+
+		index.remove(2L);
+		assertThat(index.suggest("캣", 10)).isEmpty();
+		assertThat(index.size()).isEqualTo(1);
+	}
+
+	// 측정용이라 기본 test에서는 빠짐 (./gradlew benchmark)
+	@Test
+	@Tag("benchmark")
+	void suggestsWith100kPerformances() {
+		PerformanceSuggestIndex index = newIndex();
+		for (long id = 1; id <= 100_000; id++) {
+			String title = TITLE_WORDS[(int) (id % TITLE_WORDS.length)] + " " + TITLE_WORDS[(int) (id / TITLE_WORDS.length % TITLE_WORDS.length)] + " " + id;
+			index.index(performance(id, title, id % 3 == 0 ? "연극" : "뮤지컬", "공연장" + (id % 500)));
+		}
+		String[] queries = {"ㄹ", "레", "렘", "레미제", "오페라의 유", "ㅅㅣ", "킹키", "공연장12", "뮤지", "헤드윅 모"};
+
+		for (int i = 0; i < 1_000; i++) {
+			index.suggest(queries[i % queries.length], 10);
+		}
+
+		int iterations = 100_000;
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			assertThat(index.suggest(queries[i % queries.length], 10)).isNotEmpty();
+		}
+		double averageMicros = (System.nanoTime() - start) / 1_000.0 / iterations;
+
+		log.info("suggest over {} performances: {} us/query", index.size(), String.format("%.2f", averageMicros));
+	}
+
+	private PerformanceSuggestIndex newIndex() {
+		return new PerformanceSuggestIndex(mock(PerformanceRepository.class), 10, 1000);
+	}
+
+	private Performance performance(Long id, String title, String genre, String venue) {
+		return Performance.builder()
+				.id(id)
+				.title(title)
+				.genre(genre)
+				.venue(venue)
+				.status(Performance.Status.ONGOING)
+				.build();
+	}
+
+	private List<String> titles(List<PerformanceDto.Suggestion> suggestions) {
+		return suggestions.stream().map(PerformanceDto.Suggestion::getTitle).toList();
+	}
+}
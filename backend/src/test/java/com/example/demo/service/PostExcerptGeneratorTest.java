@@ -0,0 +1,45 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostExcerptGeneratorTest {
+
+	private final PostExcerptGenerator generator = new PostExcerptGenerator(20);
+
+	@Test
+	void stripsMarkdownAndHtml() {
+		String content = """
+				# 관람 후기
+				
+				> **레미제라블** 2막이 _정말_ 좋았어요.
+				
+				- [예매 링크](https://example.com)
+				- ![포스터](poster.png)
+				<p>배우 &amp; 오케스트라</p>
+				""";
+
+		assertThat(new PostExcerptGenerator(200).excerpt(content))
+				.isEqualTo("관람 후기 레미제라블 2막이 정말 좋았어요. 예매 링크 포스터 배우 & 오케스트라");
+	}
+
+	@Test
+	void truncatesLongContentWithEllipsis() {
+		assertThat(generator.excerpt("짧은 글")).isEqualTo("짧은 글");
+		assertThat(generator.excerpt("가나다라마바사아자차카타파하 가나다라마바사아자차카타파하"))
+				.isEqualTo("가나다라마바사아자차카타파하 가나다라마…");
+		assertThat(generator.excerpt(null)).isEmpty();
+	}
+
+	@Test
+	void neverSplitsSurrogatePairsOrExceedsColumnLength() {
+		String emoji = "😀".repeat(200);
+
+		String excerpt = new PostExcerptGenerator(1000).excerpt(emoji);
+
+		assertThat(excerpt.length()).isLessThanOrEqualTo(PostExcerptGenerator.MAX_LENGTH);
+		assertThat(excerpt).endsWith("😀…");
+		assertThat(generator.excerpt(emoji)).isEqualTo("😀".repeat(20) + "…");
+	}
+}
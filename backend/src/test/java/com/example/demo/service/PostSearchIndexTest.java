@@ -0,0 +1,108 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.PostRepository;
+import com.example.demo.repository.PostSearchDocument;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostSearchIndexTest {
+
+	@Test
+	void tokenizesIntoBigramsAfterNormalizing() {
+		assertThat(PostSearchIndex.tokenize("뮤지컬 HAMILTON!")).containsExactly(
+				"뮤지", "지컬", "ha", "am", "mi", "il", "lt", "to", "on");
+		assertThat(PostSearchIndex.tokenize("A 석")).containsExactly("a", "석");
+	}
+
+	@Test
+	void matchesPartialKoreanWordsAndRanksTitleHitsFirst() {
+		PostSearchIndex index = new PostSearchIndex(mock(PostRepository.class), 100);
+		index.index(1L, "오늘 공연 후기", "레미제라블 관람했어요");
+		index.index(2L, "레미제라블 캐스팅", "배우 라인업 정리");
+		index.index(3L, "시카고 후기", "댄스가 최고");
+
+		List<PostSearchIndex.SearchHit> hits = index.searchAfter("제라블", null, null, 10);
+
+		assertThat(hits).extracting(PostSearchIndex.SearchHit::postId).containsExactly(2L, 1L);
+		assertThat(index.search("후기", 0, 10).total()).isEqualTo(2);
+		assertThat(index.searchAfter("없는단어", null, null, 10)).isEmpty();
+	}
+
+	@Test
+	void keysetPagesCoverAllHitsWithoutDuplicates() {
+		PostSearchIndex index = new PostSearchIndex(mock(PostRepository.class), 100);
+		for (long id = 1; id <= 25; id++) {
+			index.index(id, "공연 후기 " + id, "후기".repeat((int) (id % 4) + 1));
+		}
+
+		List<PostSearchIndex.SearchHit> first = index.searchAfter("후기", null, null, 10);
+		PostSearchIndex.SearchHit last = first.get(first.size() - 1);
+		List<PostSearchIndex.SearchHit> second = index.searchAfter("후기", last.score(), last.postId(), 100);
+
+		assertThat(first).hasSize(10);
+		assertThat(second).hasSize(15);
+		assertThat(second).extracting(PostSearchIndex.SearchHit::postId)
+				.doesNotContainAnyElementsOf(first.stream().map(PostSearchIndex.SearchHit::postId).toList());
+		assertThat(index.search("후기", 10, 10).hits()).isEqualTo(second.subList(0, 10));
+	}
+
+	@Test
+	void updatesAndRemovalsAreReflected() {
+		PostSearchIndex index = new PostSearchIndex(mock(PostRepository.class), 100);
+		index.index(1L, "위키드 후기", "초록 마녀");
+
+		index.index(1L, "위키드 후기", "노란 벽돌길");
+		assertThat(index.searchAfter("마녀", null, null, 10)).isEmpty();
+		assertThat(index.searchAfter("벽돌", null, null, 10)).hasSize(1);
+
+		index.remove(1L);
+		assertThat(index.searchAfter("위키드", null, null, 10)).isEmpty();
+		assertThat(index.size()).isZero();
+	}
+
+	@Test
+	void rebuildReadsAllPostsInIdBatches() {
+		PostRepository postRepository = mock(PostRepository.class);
+		when(postRepository.findSearchDocumentsAfter(eq(0L), any(Pageable.class)))
+				.thenReturn(List.of(document(1L, "맘마미아 후기"), document(2L, "맘마미아 티켓")));
+		when(postRepository.findSearchDocumentsAfter(eq(2L), any(Pageable.class)))
+				.thenReturn(List.of(document(5L, "렌트 후기")));
+
+		PostSearchIndex index = new PostSearchIndex(postRepository, 2);
+		assertThat(index.isReady()).isFalse();
+
+		index.rebuild();
+
+		assertThat(index.isReady()).isTrue();
+		assertThat(index.size()).isEqualTo(3);
+		assertThat(index.searchAfter("후기", null, null, 10))
+				.extracting(PostSearchIndex.SearchHit::postId).containsExactlyInAnyOrder(1L, 5L);
+	}
+
+	private PostSearchDocument document(Long id, String title) {
+		return new PostSearchDocument() {
+			@Override
+			public Long getId() {
+				return id;
+			}
+
+			@Override
+			public String getTitle() {
+				return title;
+			}
+
+			@Override
+			public String getContent() {
+				return "";
+			}
+		};
+	}
+}
@@ -0,0 +1,109 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.PostDto;
+import com.example.demo.entity.Comment;
+import com.example.demo.entity.Performance;
+import com.example.demo.entity.Post;
+import com.example.demo.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class PostServiceQueryCountTest {
+
+	@Autowired
+	private PostService postService;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Long performanceId;
+
+	@BeforeEach
+	void setUp() {
+		Performance performance = Performance.builder()
+				.title("테스트 공연")
+				.genre("뮤지컬")
+				.venue("테스트 극장")
+				.startDate(LocalDate.now())
+				.endDate(LocalDate.now().plusDays(30))
+				.status(Performance.Status.ONGOING)
+				.build();
+		entityManager.persist(performance);
+		performanceId = performance.getId();
+
+		for (int i = 0; i < 30; i++) {
+			User user = User.builder()
+					.username("query_user_" + i)
+					.email("query_user_" + i + "@example.com")
+					.password("password")
+					.role(User.Role.USER)
+					.build();
+			entityManager.persist(user);
+
+			Post post = Post.builder()
+					.title("게시글 " + i)
+					.content("내용 " + i)
+					.user(user)
+					.performance(performance)
+					.postType(Post.PostType.GENERAL)
+					.commentCount(3)
+					.build();
+			entityManager.persist(post);
+
+			for (int j = 0; j < 3; j++) {
+				entityManager.persist(Comment.builder()
+						.content("댓글 " + j)
+						.user(user)
+						.post(post)
+						.build());
+			}
+		}
+
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Test
+	void postListPageUsesFixedNumberOfStatements() {
+		long smallPageStatements = countStatements(5);
+		long largePageStatements = countStatements(20);
+
+		// 목록 조회 1회 + 전체 건수 조회 1회
+		assertThat(smallPageStatements).isEqualTo(2);
+		assertThat(largePageStatements).isEqualTo(smallPageStatements);
+	}
+
+	private long countStatements(int pageSize) {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		Page<PostDto.PostSummary> page = postService.getPostsByPerformance(performanceId, PageRequest.of(0, pageSize));
+
+		assertThat(page.getContent()).hasSize(pageSize);
+		assertThat(page.getContent()).allSatisfy(summary -> {
+			assertThat(summary.getUser().getUsername()).startsWith("query_user_");
+			assertThat(summary.getCommentCount()).isEqualTo(3);
+		});
+		entityManager.clear();
+
+		return statistics.getPrepareStatementCount();
+	}
+}
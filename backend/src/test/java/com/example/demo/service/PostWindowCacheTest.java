@@ -0,0 +1,116 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.PostDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostWindowCacheTest {
+
+	private static final Long PERFORMANCE_ID = 1L;
+	private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+	private final PostWindowCache cache = new PostWindowCache(3, 60_000, 100, false, 0);
+	private final AtomicInteger loads = new AtomicInteger();
+
+	// 공연의 전체 게시글 (loader는 여기서 정렬해서 windowSize개만 잘라 감)
+	private final List<PostDto.PostSummary> stored = new ArrayList<>(List.of(
+			post(1L, 10), post(2L, 5), post(3L, 3), post(4L, 1)));
+
+	@Test
+	void newPostEntersLatestWindowWithoutReload() {
+		assertThat(ids(latest())).containsExactly(4L, 3L, 2L);
+
+		PostDto.PostSummary created = post(5L, 0);
+		stored.add(created);
+		cache.onPostCreated(PERFORMANCE_ID, created);
+
+		assertThat(ids(latest())).containsExactly(5L, 4L, 3L);
+		assertThat(ids(top())).containsExactly(1L, 2L, 3L);
+		assertThat(loads.get()).isEqualTo(2);
+	}
+
+	@Test
+	void topWindowReranksInPlaceAndReloadsWhenOutsiderOvertakes() {
+		assertThat(ids(top())).containsExactly(1L, 2L, 3L);
+
+		vote(3L, 7);
+		assertThat(ids(top())).containsExactly(1L, 3L, 2L);
+		assertThat(top().get(1).getLikeCount()).isEqualTo(7);
+
+		// 창 밖의 게시글이 마지막(5)을 넘지 못하면 그대로 사용
+		vote(4L, 4);
+		assertThat(ids(top())).containsExactly(1L, 3L, 2L);
+		assertThat(loads.get()).isEqualTo(1);
+
+		vote(4L, 6);
+		assertThat(ids(top())).containsExactly(1L, 3L, 4L);
+		assertThat(loads.get()).isEqualTo(2);
+	}
+
+	@Test
+	void postDroppingToLastPlaceReloadsTopWindow() {
+		assertThat(ids(top())).containsExactly(1L, 2L, 3L);
+
+		vote(1L, 0);
+		assertThat(ids(top())).containsExactly(2L, 3L, 4L);
+		assertThat(loads.get()).isEqualTo(2);
+	}
+
+	@Test
+	void commentCountsUpdateInPlaceAndDeletedPostsReload() {
+		List<PostDto.PostSummary> before = latest();
+		top();
+
+		cache.onCommentCountChanged(PERFORMANCE_ID, 3L, 2);
+		assertThat(latest().get(1).getCommentCount()).isEqualTo(2);
+		assertThat(top().get(2).getCommentCount()).isEqualTo(2);
+		// 이미 내려준 목록의 객체는 바뀌지 않음
+		assertThat(before.get(1).getCommentCount()).isZero();
+		assertThat(loads.get()).isEqualTo(2);
+
+		stored.removeIf(post -> post.getId().equals(4L));
+		cache.onPostDeleted(PERFORMANCE_ID, 4L);
+		assertThat(ids(latest())).containsExactly(3L, 2L, 1L);
+		assertThat(ids(top())).containsExactly(1L, 2L, 3L);
+		assertThat(loads.get()).isEqualTo(3);
+	}
+
+	private List<PostDto.PostSummary> latest() {
+		return cache.latest(PERFORMANCE_ID, id -> load(Comparator.comparing(PostDto.PostSummary::getCreatedAt).reversed()));
+	}
+
+	private List<PostDto.PostSummary> top() {
+		return cache.top(PERFORMANCE_ID, id -> load(Comparator.comparing(PostDto.PostSummary::getLikeCount).reversed()));
+	}
+
+	private List<PostDto.PostSummary> load(Comparator<PostDto.PostSummary> order) {
+		loads.incrementAndGet();
+		return stored.stream().sorted(order).limit(cache.windowSize()).toList();
+	}
+
+	private void vote(Long postId, int likeCount) {
+		stored.replaceAll(post -> post.getId().equals(postId) ? post.toBuilder().likeCount(likeCount).build() : post);
+		cache.onLikeCountChanged(PERFORMANCE_ID, postId, likeCount);
+	}
+
+	private static PostDto.PostSummary post(Long id, int likeCount) {
+		return PostDto.PostSummary.builder()
+				.id(id)
+				.title("게시글 " + id)
+				.likeCount(likeCount)
+				.commentCount(0)
+				.createdAt(BASE.plusMinutes(id))
+				.build();
+	}
+
+	private static List<Long> ids(List<PostDto.PostSummary> posts) {
+		return posts.stream().map(PostDto.PostSummary::getId).toList();
+	}
+}
@@ -0,0 +1,108 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.CacheDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReadThroughCacheTest {
+
+	@Test
+	void concurrentMissesRunLoaderOnce() throws Exception {
+		ReadThroughCache<Long, String> cache = new ReadThroughCache<>("test", 60_000, 100);
+		AtomicInteger loaderCalls = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+
+		ExecutorService executor = Executors.newFixedThreadPool(16);
+		List<Future<String>> results = new ArrayList<>();
+		for (int i = 0; i < 16; i++) {
+			results.add(executor.submit(() -> {
+				start.await();
+				return cache.get(1L, key -> {
+					loaderCalls.incrementAndGet();
+					sleep(200);
+					return "공연 " + key;
+				});
+			}));
+		}
+		start.countDown();
+
+		for (Future<String> result : results) {
+			assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("공연 1");
+		}
+		executor.shutdown();
+
+		assertThat(loaderCalls.get()).isEqualTo(1);
+		assertThat(cache.get(1L, key -> "다시 로딩")).isEqualTo("공연 1");
+
+		CacheDto.CacheStats stats = cache.stats();
+		assertThat(stats.getLoadCount()).isEqualTo(1);
+		assertThat(stats.getHitCount() + stats.getMissCount()).isEqualTo(17);
+	}
+
+	@Test
+	void evictionAndExpiryTriggerReload() {
+		ReadThroughCache<Long, String> cache = new ReadThroughCache<>("test", 50, 2);
+
+		cache.get(1L, key -> "a");
+		cache.evict(1L);
+		assertThat(cache.get(1L, key -> "b")).isEqualTo("b");
+
+		sleep(80);
+		assertThat(cache.get(1L, key -> "c")).isEqualTo("c");
+
+		cache.get(2L, key -> "x");
+		cache.get(3L, key -> "y");
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.stats().getEvictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	void reloadWithinReplicaLagExpiresWhenLagEnds() {
+		ReadThroughCache<Long, String> cache = new ReadThroughCache<>("test", 60_000, 10, 100);
+
+		// 무효화 직후 로딩은 복제본의 이전 값일 수 있으므로 지연 구간이 끝나면 다시 로딩
+		cache.get(1L, key -> "a");
+		cache.evict(1L);
+		assertThat(cache.get(1L, key -> "복제 전 값")).isEqualTo("복제 전 값");
+		assertThat(cache.get(1L, key -> "b")).isEqualTo("복제 전 값");
+
+		sleep(150);
+		assertThat(cache.get(1L, key -> "복제 후 값")).isEqualTo("복제 후 값");
+		assertThat(cache.get(1L, key -> "c")).isEqualTo("복제 후 값");
+
+		cache.clear();
+		cache.get(1L, key -> "복제 전 값");
+		sleep(150);
+		assertThat(cache.get(1L, key -> "복제 후 값")).isEqualTo("복제 후 값");
+	}
+
+	@Test
+	void loaderFailureIsNotCached() {
+		ReadThroughCache<Long, String> cache = new ReadThroughCache<>("test", 60_000, 10);
+
+		assertThatThrownBy(() -> cache.get(1L, key -> {
+			throw new RuntimeException("공연을 찾을 수 없습니다.");
+		})).hasMessage("공연을 찾을 수 없습니다.");
+
+		assertThat(cache.get(1L, key -> "loaded")).isEqualTo("loaded");
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,148 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Vote;
+import com.example.demo.repository.CommentRepository;
+import com.example.demo.repository.PostRepository;
+import com.example.demo.repository.VoteRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+
+class TrendingPostIndexTest {
+
+	private final MutableClock clock = new MutableClock(LocalDate.of(2030, 5, 1));
+
+	@Test
+	void recentActivityOutranksOlderPopularPost() {
+		TrendingPostIndex index = newIndex();
+		created(index, 1L, 10L);
+		likes(index, 1L, 10);
+
+		// 반감기 12시간 기준으로 이틀 뒤의 좋아요 3개는 이틀 전 좋아요 48개 정도와 같음
+		clock.advance(Duration.ofHours(48));
+		created(index, 2L, 10L);
+		likes(index, 2L, 3);
+
+		assertThat(postIds(index.top(null, 10))).containsExactly(2L, 1L);
+		assertThat(postIds(index.top(10L, 10))).containsExactly(2L, 1L);
+		assertThat(postIds(index.top(10L, 1))).containsExactly(2L);
+	}
+
+	@Test
+	void keepsSeparateRankingPerPerformance() {
+		TrendingPostIndex index = newIndex();
+		created(index, 1L, 10L);
+		created(index, 2L, 20L);
+		created(index, 3L, 10L);
+		likes(index, 1L, 2);
+		likes(index, 2L, 5);
+		index.onCommentCreated(3L, LocalDateTime.now(clock));
+
+		assertThat(postIds(index.top(10L, 10))).containsExactly(3L, 1L);
+		assertThat(postIds(index.top(20L, 10))).containsExactly(2L);
+		assertThat(postIds(index.top(null, 10))).containsExactly(2L, 3L, 1L);
+		assertThat(index.top(99L, 10)).isEmpty();
+	}
+
+	@Test
+	void cancelledVotesAndDeletedPostsAreReversed() {
+		TrendingPostIndex index = newIndex();
+		created(index, 1L, 10L);
+		created(index, 2L, 10L);
+
+		index.onPostVote(1L, null, Vote.VoteType.LIKE, LocalDateTime.now(clock));
+		assertThat(postIds(index.top(10L, 10))).containsExactly(1L, 2L);
+
+		// 좋아요 취소 후에는 같은 점수라 최신 글이 먼저
+		index.onPostVote(1L, Vote.VoteType.LIKE, null, LocalDateTime.now(clock));
+		assertThat(postIds(index.top(10L, 10))).containsExactly(2L, 1L);
+
+		index.onPostVote(2L, null, Vote.VoteType.DISLIKE, LocalDateTime.now(clock));
+		assertThat(postIds(index.top(10L, 10))).containsExactly(1L, 2L);
+
+		index.onPostDeleted(1L);
+		assertThat(postIds(index.top(null, 10))).containsExactly(2L);
+		assertThat(index.size()).isEqualTo(1);
+	}
+
+	@Test
+	void removingOldActivitySubtractsWhatItAdded() {
+		TrendingPostIndex index = newIndex();
+		created(index, 1L, 10L);
+		double postOnly = index.top(null, 1).get(0).score();
+
+		LocalDateTime likedAt = LocalDateTime.now(clock);
+		LocalDateTime commentedAt = LocalDateTime.now(clock);
+		index.onPostVote(1L, null, Vote.VoteType.LIKE, likedAt);
+		index.onCommentCreated(1L, commentedAt);
+
+		// 사흘 뒤에 취소/삭제해도 처음 더한 만큼만 빠짐
+		clock.advance(Duration.ofDays(3));
+		index.onPostVote(1L, Vote.VoteType.LIKE, null, likedAt);
+		index.onCommentsDeleted(1L, List.of(commentedAt));
+
+		assertThat(index.top(null, 1).get(0).score()).isCloseTo(postOnly * Math.pow(2, -6), within(1e-12));
+		assertThat(index.top(null, 1).get(0).score()).isPositive();
+	}
+
+	@Test
+	void bufferedViewsCountAfterFlush() {
+		TrendingPostIndex index = newIndex();
+		created(index, 1L, 10L);
+		created(index, 2L, 10L);
+
+		for (int i = 0; i < 100; i++) {
+			index.onView(1L);
+		}
+		assertThat(postIds(index.top(10L, 10))).containsExactly(2L, 1L);
+
+		index.flushViews();
+		assertThat(postIds(index.top(10L, 10))).containsExactly(1L, 2L);
+	}
+
+	@Test
+	void rebaseKeepsScoresAndDropsPostsOutsideWindow() {
+		TrendingPostIndex index = newIndex();
+		created(index, 1L, 10L);
+		likes(index, 1L, 100);
+
+		clock.advance(Duration.ofDays(3));
+		created(index, 2L, 10L);
+
+		clock.advance(Duration.ofDays(5));
+		double before = index.top(null, 10).get(1).score();
+		index.rebase();
+
+		List<TrendingPostIndex.TrendingPost> top = index.top(null, 10);
+		assertThat(postIds(top)).containsExactly(2L);
+		assertThat(top.get(0).score()).isCloseTo(before, within(1e-12));
+		assertThat(top.get(0).score()).isCloseTo(Math.pow(2, -10), within(1e-12));
+		assertThat(index.size()).isEqualTo(1);
+	}
+
+	private TrendingPostIndex newIndex() {
+		return new TrendingPostIndex(mock(PostRepository.class), mock(VoteRepository.class),
+				mock(CommentRepository.class), clock, 12, 7, 500);
+	}
+
+	private void created(TrendingPostIndex index, Long postId, Long performanceId) {
+		index.onPostCreated(postId, performanceId, LocalDateTime.now(clock));
+	}
+
+	private void likes(TrendingPostIndex index, Long postId, int count) {
+		for (int i = 0; i < count; i++) {
+			index.onPostVote(postId, null, Vote.VoteType.LIKE, LocalDateTime.now(clock));
+		}
+	}
+
+	private List<Long> postIds(List<TrendingPostIndex.TrendingPost> posts) {
+		return posts.stream().map(TrendingPostIndex.TrendingPost::postId).toList();
+	}
+}
@@ -0,0 +1,91 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.UserDto;
+import com.example.demo.entity.User;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.security.TokenVersionRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class UserServiceTest {
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TokenVersionRegistry tokenVersionRegistry;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	private Long userId;
+
+	@BeforeEach
+	void setUp() {
+		String username = "revoke_" + System.nanoTime();
+		userId = userRepository.save(User.builder()
+				.username(username)
+				.email(username + "@example.com")
+				.password("password")
+				.role(User.Role.USER)
+				.build()).getId();
+	}
+
+	@Test
+	void revokeTokensPublishesCommittedVersion() {
+		userService.revokeTokens(userId);
+		userService.revokeTokens(userId);
+
+		assertThat(userRepository.findTokenVersionById(userId)).isEqualTo(2);
+		assertThat(tokenVersionRegistry.currentVersion(userId)).isEqualTo(2);
+	}
+
+	@Test
+	void profileUpdateFromStaleEntityKeepsRevokedVersion() throws Exception {
+		transactionTemplate.executeWithoutResult(status -> {
+			// 프로필 수정 트랜잭션이 버전 0인 사용자를 읽어 둔 상태에서 다른 스레드가 토큰을 폐기하고 커밋
+			assertThat(userRepository.findById(userId).orElseThrow().getTokenVersion()).isZero();
+			join(CompletableFuture.runAsync(() -> userService.revokeTokens(userId)));
+
+			userService.updateProfile(userId, UserDto.UpdateProfileRequest.builder()
+					.nickname("새 닉네임")
+					.build());
+		});
+
+		assertThat(userRepository.findTokenVersionById(userId)).isEqualTo(1);
+		assertThat(userRepository.findById(userId).orElseThrow().getNickname()).isEqualTo("새 닉네임");
+	}
+
+	@Test
+	void savingDetachedEntityKeepsRevokedVersion() {
+		// 로그인 시 해시 교체처럼 폐기 전에 읽어 둔 엔티티를 그대로 저장
+		User stale = userRepository.findById(userId).orElseThrow();
+		userService.revokeTokens(userId);
+
+		stale.setPassword("rehashed");
+		userRepository.save(stale);
+
+		assertThat(userRepository.findTokenVersionById(userId)).isEqualTo(1);
+		assertThat(userRepository.findById(userId).orElseThrow().getPassword()).isEqualTo("rehashed");
+	}
+
+	private static void join(CompletableFuture<Void> future) {
+		try {
+			future.get(10, TimeUnit.SECONDS);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
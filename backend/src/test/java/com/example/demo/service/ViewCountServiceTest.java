@@ -0,0 +1,69 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ViewCountServiceTest {
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void concurrentReadsAreFlushedAsSingleBatch() throws InterruptedException {
+		JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+		ViewCountService viewCountService = new ViewCountService(jdbcTemplate);
+
+		int threads = 16;
+		int readsPerThread = 500;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+
+		for (int i = 0; i < threads; i++) {
+			executor.submit(() -> {
+				start.await();
+				for (int j = 0; j < readsPerThread; j++) {
+					viewCountService.increment(1L);
+				}
+				return null;
+			});
+		}
+		start.countDown();
+		executor.shutdown();
+		assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+		assertThat(viewCountService.getPendingCount(1L)).isEqualTo(threads * readsPerThread);
+
+		assertThat(viewCountService.flush()).isEqualTo(1);
+
+		ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate, times(1)).batchUpdate(anyString(), captor.capture());
+		assertThat(captor.getValue()).hasSize(1);
+		assertThat(captor.getValue().get(0)).containsExactly((long) threads * readsPerThread, 1L);
+		assertThat(viewCountService.getPendingCount(1L)).isZero();
+	}
+
+	@Test
+	void flushWithoutPendingViewsIssuesNoStatements() {
+		JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+		ViewCountService viewCountService = new ViewCountService(jdbcTemplate);
+
+		viewCountService.increment(1L);
+		viewCountService.flush();
+		viewCountService.flush();
+
+		verify(jdbcTemplate, times(1)).batchUpdate(eq("UPDATE posts SET view_count = view_count + ? WHERE id = ?"), anyList());
+	}
+}
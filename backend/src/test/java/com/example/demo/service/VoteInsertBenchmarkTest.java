@@ -0,0 +1,160 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Performance;
+import com.example.demo.entity.Post;
+import com.example.demo.entity.User;
+import com.example.demo.entity.Vote;
+import com.example.demo.repository.PerformanceRepository;
+import com.example.demo.repository.PostRepository;
+import com.example.demo.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 투표 10만 건 INSERT: 행마다 왕복하던 IDENTITY 방식과 시퀀스(pooled-lo) + JDBC 배치 비교
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class VoteInsertBenchmarkTest {
+
+	private static final Logger log = LoggerFactory.getLogger(VoteInsertBenchmarkTest.class);
+
+	private static final int USERS = 100;
+	private static final int POSTS = 1_000;
+	private static final int VOTES = USERS * POSTS;
+	private static final int CHUNK = 1_000;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private PerformanceRepository performanceRepository;
+
+	@Autowired
+	private PostRepository postRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void batchedSequenceInsertsOutpaceRowByRowInserts() {
+		List<Long> postIds = posts();
+
+		// 이전: 행마다 id를 받아 오고 INSERT를 하나씩 실행
+		List<Long> before = users("before");
+		long rowByRowStart = System.nanoTime();
+		transactionTemplate.executeWithoutResult(status -> {
+			for (Long userId : before) {
+				for (Long postId : postIds) {
+					Long id = jdbcTemplate.queryForObject("SELECT nextval('votes_seq')", Long.class);
+					jdbcTemplate.update("INSERT INTO votes (id, user_id, post_id, vote_type, created_at) VALUES (?, ?, ?, ?, ?)",
+							id, userId, postId, Vote.VoteType.LIKE.name(), LocalDateTime.now());
+				}
+			}
+		});
+		long rowByRowNanos = System.nanoTime() - rowByRowStart;
+
+		// 이후: persist만 하고 flush 때 batch_size 단위로 묶어서 전송
+		List<Long> after = users("after");
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		long batchedStart = System.nanoTime();
+		for (int from = 0; from < VOTES; from += CHUNK) {
+			int start = from;
+			transactionTemplate.executeWithoutResult(status -> {
+				for (int i = start; i < start + CHUNK; i++) {
+					entityManager.persist(Vote.builder()
+							.user(entityManager.getReference(User.class, after.get(i / POSTS)))
+							.post(entityManager.getReference(Post.class, postIds.get(i % POSTS)))
+							.voteType(Vote.VoteType.LIKE)
+							.build());
+				}
+				entityManager.flush();
+				entityManager.clear();
+			});
+		}
+		long batchedNanos = System.nanoTime() - batchedStart;
+
+		log.info("vote inserts: row-by-row {}/s, batched {}/s ({} statements for {} rows)",
+				Math.round(perSecond(rowByRowNanos)), Math.round(perSecond(batchedNanos)),
+				statistics.getPrepareStatementCount(), statistics.getEntityInsertCount());
+
+		assertThat(countVotes(before)).isEqualTo(VOTES);
+		assertThat(countVotes(after)).isEqualTo(VOTES);
+		assertThat(statistics.getEntityInsertCount()).isEqualTo(VOTES);
+		// 배치 50건당 INSERT 한 번, 시퀀스 조회는 50건당 한 번
+		assertThat(statistics.getPrepareStatementCount()).isLessThan(VOTES / 10);
+	}
+
+	private List<Long> posts() {
+		User author = userRepository.save(user("author_" + System.nanoTime()));
+		Performance performance = performanceRepository.save(Performance.builder()
+				.title("벤치마크 공연")
+				.startDate(LocalDate.now())
+				.endDate(LocalDate.now().plusDays(7))
+				.status(Performance.Status.ONGOING)
+				.build());
+
+		List<Post> posts = new ArrayList<>();
+		for (int i = 0; i < POSTS; i++) {
+			posts.add(Post.builder()
+					.title("게시글 " + i)
+					.content("내용")
+					.user(author)
+					.performance(performance)
+					.build());
+		}
+		return postRepository.saveAll(posts).stream().map(Post::getId).toList();
+	}
+
+	private List<Long> users(String label) {
+		String prefix = label + "_" + System.nanoTime() + "_";
+		List<User> users = new ArrayList<>();
+		for (int i = 0; i < USERS; i++) {
+			users.add(user(prefix + i));
+		}
+		return userRepository.saveAll(users).stream().map(User::getId).toList();
+	}
+
+	private User user(String username) {
+		return User.builder()
+				.username(username)
+				.email(username + "@example.com")
+				.password("password")
+				.role(User.Role.USER)
+				.build();
+	}
+
+	private long countVotes(List<Long> userIds) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM votes WHERE user_id BETWEEN ? AND ?",
+				Long.class, userIds.get(0), userIds.get(userIds.size() - 1));
+	}
+
+	private static double perSecond(long nanos) {
+		return VOTES * 1_000_000_000.0 / nanos;
+	}
+}
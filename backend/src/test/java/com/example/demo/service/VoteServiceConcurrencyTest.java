@@ -0,0 +1,158 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.VoteDto;
+import com.example.demo.entity.Performance;
+import com.example.demo.entity.Post;
+import com.example.demo.entity.User;
+import com.example.demo.entity.Vote;
+import com.example.demo.repository.PerformanceRepository;
+import com.example.demo.repository.PostRepository;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.repository.VoteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class VoteServiceConcurrencyTest {
+
+	private static final int USERS = 8;
+	private static final int TOGGLES_PER_USER = 25;
+
+	@Autowired
+	private VoteService voteService;
+
+	@Autowired
+	private VoteTallyReconciler voteTallyReconciler;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private PerformanceRepository performanceRepository;
+
+	@Autowired
+	private PostRepository postRepository;
+
+	@Autowired
+	private VoteRepository voteRepository;
+
+	private Long postId;
+	private final List<Long> userIds = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		Performance performance = performanceRepository.save(Performance.builder()
+				.title("투표 테스트 공연")
+				.startDate(LocalDate.now())
+				.endDate(LocalDate.now().plusDays(7))
+				.status(Performance.Status.ONGOING)
+				.build());
+
+		String prefix = "tally_" + System.nanoTime() + "_";
+		for (int i = 0; i < USERS; i++) {
+			User user = userRepository.save(User.builder()
+					.username(prefix + i)
+					.email(prefix + i + "@example.com")
+					.password("password")
+					.role(User.Role.USER)
+					.build());
+			userIds.add(user.getId());
+		}
+
+		Post post = postRepository.save(Post.builder()
+				.title("투표 테스트")
+				.content("내용")
+				.user(userRepository.getReferenceById(userIds.get(0)))
+				.performance(performance)
+				.build());
+		postId = post.getId();
+	}
+
+	@Test
+	void tallyStaysExactUnderConcurrentToggling() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(USERS);
+		CountDownLatch start = new CountDownLatch(1);
+
+		List<Future<Void>> results = new ArrayList<>();
+		for (Long userId : userIds) {
+			results.add(executor.submit(() -> {
+				start.await();
+				for (int i = 0; i < TOGGLES_PER_USER; i++) {
+					Vote.VoteType type = ThreadLocalRandom.current().nextBoolean()
+							? Vote.VoteType.LIKE : Vote.VoteType.DISLIKE;
+					voteService.vote(VoteDto.VoteRequest.builder().postId(postId).voteType(type).build(), userId);
+				}
+				return null;
+			}));
+		}
+		start.countDown();
+		// 투표 하나라도 실패하면 여기서 예외로 드러남
+		awaitAll(executor, results);
+
+		assertTallyMatchesVotes();
+
+		// 집계 재계산 후에도 값이 그대로여야 함
+		voteTallyReconciler.rebuild();
+		assertTallyMatchesVotes();
+	}
+
+	// 같은 사용자의 투표는 사용자 행 잠금으로 차례대로 처리되므로 재시도 횟수와 관계없이 모두 성공해야 함
+	@Test
+	void evenNumberOfParallelTogglesFromOneUserCancelOut() throws Exception {
+		Long userId = userIds.get(0);
+		ExecutorService executor = Executors.newFixedThreadPool(16);
+		CountDownLatch start = new CountDownLatch(1);
+
+		List<Future<Void>> results = new ArrayList<>();
+		for (int i = 0; i < 64; i++) {
+			results.add(executor.submit(() -> {
+				start.await();
+				voteService.vote(VoteDto.VoteRequest.builder()
+						.postId(postId)
+						.voteType(Vote.VoteType.LIKE)
+						.build(), userId);
+				return null;
+			}));
+		}
+		start.countDown();
+		awaitAll(executor, results);
+
+		// 64번 모두 처리됐으면 투표/취소가 짝을 이뤄 아무것도 남지 않음
+		assertThat(voteRepository.countByPostIdAndVoteType(postId, Vote.VoteType.LIKE)).isZero();
+		VoteDto.VoteSummary summary = voteService.getVoteSummary(postId, null, null);
+		assertThat(summary.getLikeCount()).isZero();
+		assertThat(summary.getDislikeCount()).isZero();
+	}
+
+	private void awaitAll(ExecutorService executor, List<Future<Void>> results) throws Exception {
+		for (Future<Void> result : results) {
+			result.get(60, TimeUnit.SECONDS);
+		}
+		executor.shutdown();
+		assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+	}
+
+	private void assertTallyMatchesVotes() {
+		VoteDto.VoteSummary summary = voteService.getVoteSummary(postId, null, null);
+
+		assertThat(summary.getLikeCount())
+				.isEqualTo(voteRepository.countByPostIdAndVoteType(postId, Vote.VoteType.LIKE));
+		assertThat(summary.getDislikeCount())
+				.isEqualTo(voteRepository.countByPostIdAndVoteType(postId, Vote.VoteType.DISLIKE));
+		assertThat(summary.getLikeCount() + summary.getDislikeCount()).isLessThanOrEqualTo(USERS);
+	}
+}
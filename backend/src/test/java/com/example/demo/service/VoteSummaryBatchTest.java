@@ -0,0 +1,194 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.VoteDto;
+import com.example.demo.entity.Comment;
+import com.example.demo.entity.Performance;
+import com.example.demo.entity.Post;
+import com.example.demo.entity.User;
+import com.example.demo.entity.Vote;
+import com.example.demo.repository.CommentRepository;
+import com.example.demo.repository.PostRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class VoteSummaryBatchTest {
+
+	private static final long MISSING_ID = Long.MAX_VALUE;
+
+	@Autowired
+	private VoteService voteService;
+
+	@Autowired
+	private PostRepository postRepository;
+
+	@Autowired
+	private CommentRepository commentRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private User voter;
+	private Post likedPost;
+	private Post dislikedPost;
+	private Post quietPost;
+	private Comment agreedComment;
+	private Comment quietComment;
+
+	@BeforeEach
+	void setUp() {
+		voter = user("batch_voter");
+		User other = user("batch_other");
+
+		Performance performance = Performance.builder()
+				.title("투표 요약 공연")
+				.startDate(LocalDate.now())
+				.endDate(LocalDate.now().plusDays(7))
+				.status(Performance.Status.ONGOING)
+				.build();
+		entityManager.persist(performance);
+
+		likedPost = post(performance, "좋아요 받은 글");
+		dislikedPost = post(performance, "싫어요 받은 글");
+		quietPost = post(performance, "투표 없는 글");
+		agreedComment = comment(likedPost, "공감 받은 댓글");
+		quietComment = comment(likedPost, "투표 없는 댓글");
+
+		vote(voter, likedPost, null, Vote.VoteType.LIKE);
+		vote(other, likedPost, null, Vote.VoteType.LIKE);
+		vote(voter, dislikedPost, null, Vote.VoteType.DISLIKE);
+		vote(other, null, agreedComment, Vote.VoteType.AGREE);
+		vote(voter, null, agreedComment, Vote.VoteType.DISAGREE);
+
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Test
+	void summarizesEachDistinctTargetInRequestOrder() {
+		VoteDto.BatchSummaryResponse response = voteService.getVoteSummaries(VoteDto.BatchSummaryRequest.builder()
+				.postIds(Arrays.asList(dislikedPost.getId(), null, likedPost.getId(), quietPost.getId(),
+						likedPost.getId(), MISSING_ID))
+				.commentIds(Arrays.asList(agreedComment.getId(), quietComment.getId(), agreedComment.getId(), null))
+				.userId(voter.getId())
+				.build());
+
+		assertThat(response.getPosts())
+				.extracting(VoteDto.VoteSummary::getPostId, VoteDto.VoteSummary::getLikeCount,
+						VoteDto.VoteSummary::getDislikeCount, VoteDto.VoteSummary::getUserVote)
+				.containsExactly(
+						tuple(dislikedPost.getId(), 0L, 1L, Vote.VoteType.DISLIKE),
+						tuple(likedPost.getId(), 2L, 0L, Vote.VoteType.LIKE),
+						tuple(quietPost.getId(), 0L, 0L, null),
+						// 없는 게시글도 빈 집계로 응답
+						tuple(MISSING_ID, 0L, 0L, null));
+
+		assertThat(response.getComments())
+				.extracting(VoteDto.VoteSummary::getCommentId, VoteDto.VoteSummary::getAgreeCount,
+						VoteDto.VoteSummary::getDisagreeCount, VoteDto.VoteSummary::getUserVote)
+				.containsExactly(
+						tuple(agreedComment.getId(), 1L, 1L, Vote.VoteType.DISAGREE),
+						tuple(quietComment.getId(), 0L, 0L, null));
+	}
+
+	@Test
+	void issuesOneTallyQueryAndOneUserVoteQueryPerTargetKind() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+		statistics.clear();
+		VoteDto.BatchSummaryResponse anonymous = voteService.getVoteSummaries(VoteDto.BatchSummaryRequest.builder()
+				.postIds(Arrays.asList(likedPost.getId(), dislikedPost.getId(), quietPost.getId()))
+				.commentIds(Arrays.asList(agreedComment.getId(), quietComment.getId()))
+				.build());
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+		assertThat(anonymous.getPosts()).extracting(VoteDto.VoteSummary::getUserVote).containsOnlyNulls();
+
+		statistics.clear();
+		voteService.getVoteSummaries(VoteDto.BatchSummaryRequest.builder()
+				.postIds(Arrays.asList(likedPost.getId(), dislikedPost.getId(), quietPost.getId()))
+				.commentIds(Arrays.asList(agreedComment.getId(), quietComment.getId()))
+				.userId(voter.getId())
+				.build());
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+
+		// 조회할 대상이 없으면 쿼리도 없음
+		statistics.clear();
+		VoteDto.BatchSummaryResponse empty = voteService.getVoteSummaries(VoteDto.BatchSummaryRequest.builder()
+				.postIds(Arrays.asList(null, null))
+				.userId(voter.getId())
+				.build());
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+		assertThat(empty.getPosts()).isEmpty();
+		assertThat(empty.getComments()).isEmpty();
+	}
+
+	private User user(String username) {
+		User user = User.builder()
+				.username(username)
+				.email(username + "@example.com")
+				.password("password")
+				.role(User.Role.USER)
+				.build();
+		entityManager.persist(user);
+		return user;
+	}
+
+	private Post post(Performance performance, String title) {
+		Post post = Post.builder()
+				.title(title)
+				.content("내용")
+				.user(voter)
+				.performance(performance)
+				.build();
+		entityManager.persist(post);
+		return post;
+	}
+
+	private Comment comment(Post post, String content) {
+		Comment comment = Comment.builder()
+				.content(content)
+				.user(voter)
+				.post(post)
+				.build();
+		comment.setDepth();
+		entityManager.persist(comment);
+		return comment;
+	}
+
+	// 투표 행과 집계 컬럼을 함께 맞춰 둠
+	private void vote(User user, Post post, Comment comment, Vote.VoteType type) {
+		entityManager.persist(Vote.builder()
+				.user(user)
+				.post(post)
+				.comment(comment)
+				.voteType(type)
+				.build());
+		int like = type == Vote.VoteType.LIKE ? 1 : 0;
+		int dislike = type == Vote.VoteType.DISLIKE ? 1 : 0;
+		int agree = type == Vote.VoteType.AGREE ? 1 : 0;
+		int disagree = type == Vote.VoteType.DISAGREE ? 1 : 0;
+		entityManager.flush();
+		if (post != null) {
+			postRepository.adjustVoteCounts(post.getId(), like, dislike, agree, disagree);
+		} else {
+			commentRepository.adjustVoteCounts(comment.getId(), like, dislike, agree, disagree);
+		}
+	}
+}
@@ -197,7 +197,7 @@ const PostList = () => {
                       </Typography>
                       
                       <Typography variant="body2" color="text.secondary" paragraph noWrap>
-                        {post.content}
+                        {post.excerpt}
                       </Typography>
                     </Box>
                     